@@ -1,14 +1,118 @@
 import controller.GameController;
+import controller.ReplayController;
+import model.AutoPlayer;
 import model.GameModel;
+import model.InputRecorder;
+import model.LevelPack;
+import model.ReplayPlayer;
+import utils.PerformanceMonitor;
+import utils.SoundEffects;
+import utils.SoundLoader;
 import view.GameView;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Starts the game.
+ * Options: --record <file> saves the session input log at exit,
+ * --replay <file> plays a log back in the window, --replay <file> --fast re-simulates it
+ * without rendering as fast as possible and prints the results,
+ * --levels <file> plays the levels of a level pack instead of the built-in ones
+ * (replays need the pack they were recorded with),
+ * --autoplay <skill 0..1> [--reaction <ms>] [--difficulty <name>] lets a bot play unattended (soak tests),
+ * --sub-tick-input moves the paddle by exactly how long keys are held instead of whole ticks.
+ */
 public class Main {
-    public static void main(String[] args) {
-        // Initialize game model (stores game state)
-        GameModel model = new GameModel();
+    public static void main(String[] args) throws IOException {
+        String record = null, replay = null, levels = null;
+        boolean fast = false, subTickInput = false;
+        double autoplay = -1; // Bot skill (negative = no bot)
+        int reactionMillis = 150; // Bot reaction delay
+        String difficulty = "EASY"; // Difficulty played by the bot
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--record" -> record = args[++i];
+                case "--replay" -> replay = args[++i];
+                case "--fast" -> fast = true;
+                case "--sub-tick-input" -> subTickInput = true;
+                case "--levels" -> levels = args[++i];
+                case "--autoplay" -> autoplay = Double.parseDouble(args[++i]);
+                case "--reaction" -> reactionMillis = Integer.parseInt(args[++i]);
+                case "--difficulty" -> difficulty = args[++i].toUpperCase();
+                default -> {
+                    System.err.println("Usage: Main [--record <file>] [--replay <file> [--fast]] [--levels <file>] [--sub-tick-input]"
+                            + " [--autoplay <skill> [--reaction <ms>] [--difficulty <name>]]");
+                    System.exit(2);
+                }
+            }
+        }
+
+        LevelPack levelPack = levels != null ? LevelPack.open(Path.of(levels)) : LevelPack.builtIn();
+        if (replay != null && fast) {
+            runFastReplay(Path.of(replay), levelPack);
+            return;
+        }
+
+        // Decode sound effects once, so playing them during the game is cheap
+        SoundLoader.preload(SoundEffects.EFFECTS);
+
+        // Initialize game model (stores game state); replays don't touch the saved progress
+        GameModel model = new GameModel(replay == null);
+        model.setRefreshRate(GameView.detectRefreshRate()); // Rendering follows the display refresh rate
+        model.setEventListener(new SoundEffects()); // Play sounds for gameplay events
+        model.setLevelPack(levelPack);
+        model.setSubTickInput(subTickInput); // Recorded in the input log, so replays don't need the option
+        if (replay == null) { model.enableRewind(); } // Holding R scrubs back the last 30 seconds
+
+        // Tick and frame statistics (F3 overlay); -Dbrickbreaker.perfLog=<file> saves histograms at exit
+        PerformanceMonitor monitor = new PerformanceMonitor();
+        model.setTickProfiler(monitor);
+        String perfLog = System.getProperty("brickbreaker.perfLog");
+        if (perfLog != null) { monitor.dumpOnExit(new File(perfLog)); }
+
+        // Record the session input log, saved when the game exits
+        if (record != null) { recordSession(model, Path.of(record)); }
+
         // Initialize game view (UI components)
-        GameView view = new GameView(model);
-        // Initialize controller to handle interactions
-        new GameController(model, view);
+        GameView view = new GameView(model, monitor);
+
+        if (replay != null) {
+            // Play the log back instead of taking keyboard input
+            new ReplayController(model, view, ReplayPlayer.open(Path.of(replay), model)).start();
+        } else {
+            // Initialize controller to handle interactions
+            GameController controller = new GameController(model, view);
+            if (autoplay >= 0) {
+                int reactionTicks = reactionMillis * model.getTickRate() / 1000;
+                controller.startAutoplay(new AutoPlayer(autoplay, reactionTicks, model.getSeed()), difficulty);
+            }
+        }
+    }
+
+    // Records input of every game and saves the log at exit
+    private static void recordSession(GameModel model, Path file) {
+        InputRecorder recorder = new InputRecorder();
+        model.setInputRecorder(recorder);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                recorder.save(file);
+            } catch (IOException e) {
+                System.err.println("Failed to save input log: " + e.getMessage());
+            }
+        }, "input-log-save"));
+    }
+
+    // Re-simulates a log without display or audio and prints the results
+    private static void runFastReplay(Path file, LevelPack levelPack) throws IOException {
+        GameModel model = new GameModel(false);
+        model.setLevelPack(levelPack);
+        ReplayPlayer player = ReplayPlayer.open(file, model);
+        long start = System.nanoTime();
+        while (player.step()) {}
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("games: %d, ticks: %d, score: %d, lives: %d%n", player.getGames(), player.getTicks(), model.getScore(), model.getLives());
+        System.out.printf("%.3f s, %.0f ticks/s%n", seconds, player.getTicks() / seconds);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package benchmark;
+
+import model.AutoPlayer;
+import model.GameModel;
+import utils.PerformanceMonitor;
+import view.GameRenderer;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Checks that the steady-state tick and paint paths don't allocate.
+ * A bot plays through the keyboard input path (input queue, snapshots, rewind history and
+ * tick profiling enabled) while every second tick is painted into an offscreen image.
+ * Bytes allocated per tick and per frame are read from the thread allocation counter;
+ * the check exits with status 1 if either exceeds its budget. Starting a new map allocates
+ * by design, so ticks that start one are not counted. The warm-up plays the same games as
+ * the measurement, so brick sprites are already cached; what remains per brick hit is the
+ * clip of the redrawn area (Java2D allocates a clip region), a fraction of a byte per frame.
+ * Run: java -Djava.awt.headless=true -cp out benchmark.AllocationBudget [kilo ticks [tick budget [frame budget]]]
+ */
+public class AllocationBudget {
+    private static final int WARMUP_TICKS = 50_000; // At least this long, so the JIT compiles (and scalar-replaces) the hot paths
+    private static final int FRAME_INTERVAL = 2; // Ticks per painted frame (60 FPS at 120 TPS)
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final GameModel model = new GameModel(false);
+    private AutoPlayer autoPlayer; // New for every game, so each game plays the same way
+    private final GameRenderer renderer;
+    private final Graphics2D graphics;
+    private int heldInput = 0; // Directions the bot holds (sent as key events when they change)
+    private int game = 0; // Games started
+
+    private long tickBytes, frameBytes; // Allocated while ticking and painting
+    private long ticks, frames; // Counted ticks and frames
+
+    private AllocationBudget() {
+        model.enableRewind();
+        PerformanceMonitor monitor = new PerformanceMonitor();
+        model.setTickProfiler(monitor);
+        renderer = new GameRenderer(model, monitor);
+        graphics = new BufferedImage(model.getFieldWidth(), model.getFieldHeight(), BufferedImage.TYPE_INT_RGB).createGraphics();
+        startGame();
+    }
+
+    public static void main(String[] args) {
+        int measuredTicks = (args.length > 0 ? Integer.parseInt(args[0]) : 200) * 1000;
+        double tickBudget = args.length > 1 ? Double.parseDouble(args[1]) : 8; // Bytes per tick
+        double frameBudget = args.length > 2 ? Double.parseDouble(args[2]) : 16; // Bytes per frame
+
+        AllocationBudget check = new AllocationBudget();
+        check.run(Math.max(WARMUP_TICKS, measuredTicks)); // Same games as measured below
+        check.restart();
+        check.run(measuredTicks);
+
+        double perTick = (double) check.tickBytes / check.ticks;
+        double perFrame = (double) check.frameBytes / check.frames;
+        System.out.printf("ticks: %d, %.2f bytes/tick (budget %.0f)%n", check.ticks, perTick, tickBudget);
+        System.out.printf("frames: %d, %.2f bytes/frame (budget %.0f)%n", check.frames, perFrame, frameBudget);
+        if (perTick > tickBudget || perFrame > frameBudget) {
+            System.out.println("FAILED: allocation budget exceeded");
+            System.exit(1);
+        }
+        System.out.println("OK");
+    }
+
+    // Starts over from the first game, with the counters cleared
+    private void restart() {
+        game = 0;
+        heldInput = 0;
+        model.releaseInput();
+        tickBytes = frameBytes = ticks = frames = 0;
+        startGame();
+    }
+
+    // Plays the given number of ticks, painting every FRAME_INTERVAL ticks
+    private void run(int count) {
+        for (int i = 0; i < count; i++) {
+            if (!model.isGameRunning() || model.isLevelCompleted()) {
+                startGame(); // Not counted: generating a map allocates
+                continue;
+            }
+
+            long start = THREADS.getCurrentThreadAllocatedBytes();
+            sendInput(autoPlayer.nextInput(model));
+            model.tick();
+            model.publishSnapshot();
+            long ticked = THREADS.getCurrentThreadAllocatedBytes();
+            tickBytes += ticked - start;
+            ticks++;
+
+            if (i % FRAME_INTERVAL == 0) {
+                renderer.takeFrame(null);
+                renderer.paint(graphics);
+                frameBytes += THREADS.getCurrentThreadAllocatedBytes() - ticked;
+                frames++;
+            }
+        }
+    }
+
+    // Sends the bot's input as key events, as the keyboard handler would
+    private void sendInput(int input) {
+        int changed = input ^ heldInput;
+        if ((changed & GameModel.INPUT_LEFT) != 0) { model.setMovingLeft((input & GameModel.INPUT_LEFT) != 0); }
+        if ((changed & GameModel.INPUT_RIGHT) != 0) { model.setMovingRight((input & GameModel.INPUT_RIGHT) != 0); }
+        if ((input & GameModel.INPUT_LAUNCH) != 0) { model.requestLaunch(); }
+        heldInput = input & (GameModel.INPUT_LEFT | GameModel.INPUT_RIGHT);
+    }
+
+    // Starts the next game on the densest levels, with a new brick layer for the renderer
+    private void startGame() {
+        model.setDIFFICULTY(game % 2 == 0 ? "HARD" : "MEDIUM");
+        model.setLEVEL(3);
+        model.setSeed(game);
+        autoPlayer = new AutoPlayer(0.9, 12, game++);
+        model.startGame();
+        model.publishSnapshot();
+        renderer.takeFrame(null);
+        renderer.paint(graphics);
+    }
+}
@@ -0,0 +1,86 @@
+package benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Minimal benchmark harness: warm-up, timed iterations, throughput and allocation per operation.
+ * Allocation is read from the per-thread allocation counter, GC activity from the collector beans,
+ * which gives the same numbers JMH reports with "-prof gc" without extra dependencies.
+ */
+public class BenchmarkRunner {
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURE_ITERATIONS = 5;
+    private static final long ITERATION_NANOS = 500_000_000L; // Length of one iteration
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final List<GarbageCollectorMXBean> COLLECTORS = ManagementFactory.getGarbageCollectorMXBeans();
+
+    private static long sink; // Consumes results so the JIT cannot drop the measured work
+
+    // Operation under test (returns any value depending on the work done)
+    public interface Operation {
+        long run();
+    }
+
+    // Prints the table header
+    public static void printHeader() {
+        System.out.printf("%-32s %-22s %14s %10s %12s %8s %8s%n",
+                "benchmark", "params", "ops/s", "error %", "bytes/op", "gc", "gc ms");
+    }
+
+    // Runs a benchmark and prints one result line
+    public static void run(String name, String params, Operation op) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) { iteration(op); }
+
+        double[] throughput = new double[MEASURE_ITERATIONS];
+        long totalOps = 0;
+        long gcCountBefore = gcCount(), gcTimeBefore = gcTime();
+        long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            long ops = iteration(op);
+            throughput[i] = ops / ((System.nanoTime() - start) / 1e9);
+            totalOps += ops;
+        }
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        double mean = 0;
+        for (double t : throughput) { mean += t; }
+        mean /= throughput.length;
+        double variance = 0;
+        for (double t : throughput) { variance += (t - mean) * (t - mean); }
+        double error = Math.sqrt(variance / (throughput.length - 1)) / mean * 100;
+
+        System.out.printf("%-32s %-22s %14.1f %10.1f %12.1f %8d %8d%n",
+                name, params, mean, error, allocated / (double) totalOps, gcCount() - gcCountBefore, gcTime() - gcTimeBefore);
+    }
+
+    // Runs the operation repeatedly for one iteration; returns the number of operations
+    private static long iteration(Operation op) {
+        long ops = 0;
+        long end = System.nanoTime() + ITERATION_NANOS;
+        do {
+            for (int i = 0; i < 64; i++) { sink += op.run(); }
+            ops += 64;
+        } while (System.nanoTime() < end);
+        return ops;
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : COLLECTORS) { count += Math.max(0, gc.getCollectionCount()); }
+        return count;
+    }
+
+    private static long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : COLLECTORS) { time += Math.max(0, gc.getCollectionTime()); }
+        return time;
+    }
+
+    // Returns the consumed results (keeps the sink observable)
+    public static long getSink() { return sink; }
+}
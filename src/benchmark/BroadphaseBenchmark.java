@@ -0,0 +1,112 @@
+package benchmark;
+
+import model.BrickField;
+import model.BrickGrid;
+
+import java.util.Random;
+
+/**
+ * Compares the old linear ball-brick scan with the BrickGrid broadphase.
+ * Run: java -cp out benchmark.BroadphaseBenchmark
+ */
+public class BroadphaseBenchmark {
+    private static final int[] BRICK_COUNTS = {100, 10_000, 100_000};
+    private static final int BRICK_WIDTH = 74;
+    private static final int BRICK_HEIGHT = 32;
+    private static final int PADDING = 5;
+    private static final int BALL_DIAMETER = 25;
+    private static final int QUERIES = 4096; // Ball positions sampled per run
+
+    public static void main(String[] args) {
+        System.out.printf("%-10s %18s %18s %10s%n", "bricks", "linear (ns/query)", "grid (ns/query)", "speedup");
+        for (int count : BRICK_COUNTS) {
+            runScenario(count);
+        }
+    }
+
+    private static void runScenario(int brickCount) {
+        // Lay bricks out in a square-ish block, like a (very) large custom layout
+        int columns = (int) Math.ceil(Math.sqrt(brickCount));
+        int rows = (int) Math.ceil(brickCount / (double) columns);
+        double worldWidth = columns * (BRICK_WIDTH + PADDING);
+        double worldHeight = rows * (BRICK_HEIGHT + PADDING);
+
+        BrickField bricks = new BrickField(brickCount);
+        for (int i = 0; i < brickCount; i++) {
+            bricks.add((i % columns) * (BRICK_WIDTH + PADDING), (i / columns) * (BRICK_HEIGHT + PADDING), BRICK_WIDTH, BRICK_HEIGHT, 1, i);
+        }
+        bricks.buildGrid(worldWidth, worldHeight, BRICK_WIDTH + PADDING, BRICK_HEIGHT + PADDING);
+        BrickGrid grid = bricks.getGrid();
+
+        // Random ball positions inside the field
+        Random rand = new Random(42);
+        double[] ballX = new double[QUERIES];
+        double[] ballY = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            ballX[i] = rand.nextDouble() * (worldWidth - BALL_DIAMETER);
+            ballY[i] = rand.nextDouble() * (worldHeight - BALL_DIAMETER);
+        }
+
+        double linear = measure(() -> linearScan(bricks, ballX, ballY));
+        double indexed = measure(() -> gridScan(bricks, grid, ballX, ballY));
+        System.out.printf("%-10d %18.1f %18.1f %9.1fx%n", brickCount, linear, indexed, linear / indexed);
+    }
+
+    // Old approach: test every alive brick
+    private static int linearScan(BrickField bricks, double[] ballX, double[] ballY) {
+        int hits = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            for (int b = bricks.nextAlive(0); b >= 0; b = bricks.nextAlive(b + 1)) {
+                if (intersects(bricks, b, ballX[q], ballY[q])) {
+                    hits++;
+                    break;
+                }
+            }
+        }
+        return hits;
+    }
+
+    // New approach: test only bricks from the cells overlapped by the ball
+    private static int gridScan(BrickField bricks, BrickGrid grid, double[] ballX, double[] ballY) {
+        int hits = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            int candidates = grid.query(ballX[q], ballY[q], BALL_DIAMETER, BALL_DIAMETER);
+            for (int i = 0; i < candidates; i++) {
+                if (intersects(bricks, grid.getResult(i), ballX[q], ballY[q])) {
+                    hits++;
+                    break;
+                }
+            }
+        }
+        return hits;
+    }
+
+    // Simple overlap test (bounds truncated to whole pixels)
+    private static boolean intersects(BrickField bricks, int b, double x, double y) {
+        int bx = (int) x, by = (int) y;
+        return bx < bricks.getX(b) + bricks.getWidth(b) && bricks.getX(b) < bx + BALL_DIAMETER
+                && by < bricks.getY(b) + bricks.getHeight(b) && bricks.getY(b) < by + BALL_DIAMETER;
+    }
+
+    // Returns average nanoseconds per query (after warm-up)
+    private static double measure(Scan scan) {
+        long sink = 0;
+        for (int i = 0; i < 5; i++) { sink += scan.run(); } // Warm-up
+
+        int runs = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            sink += scan.run();
+            runs++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < 1_000_000_000L && runs < 1000);
+
+        if (sink == 42) { System.out.print(""); } // Keep results alive
+        return elapsed / (double) (runs * QUERIES);
+    }
+
+    private interface Scan {
+        int run();
+    }
+}
@@ -0,0 +1,158 @@
+package benchmark;
+
+import model.BallPool;
+import model.BrickField;
+import model.BrickLayout;
+import model.GameModel;
+import model.MapGenerator;
+import model.Paddle;
+import model.WaveGenerator;
+
+/**
+ * Benchmarks of the engine hot paths (tick and level generation).
+ * Prints throughput and allocation per operation for every scenario.
+ * Run: java -Djava.awt.headless=true -cp out benchmark.EngineBenchmarks [name filter]
+ */
+public class EngineBenchmarks {
+    private static final int[] BRICK_COUNTS = {100, 1_000, 10_000};
+    private static final int[] BALL_COUNTS = {1, 16, 256};
+    private static final int BENCHMARK_WAVE = 10; // Endless wave measured
+    private static final int HARD_DURABILITY = 3; // Base brick durability of HARD
+
+    public static void main(String[] args) {
+        String filter = args.length > 0 ? args[0] : "";
+
+        BenchmarkRunner.printHeader();
+        for (int bricks : BRICK_COUNTS) {
+            for (int balls : BALL_COUNTS) {
+                if (matches("BallPool.step", filter)) {
+                    Scene scene = new Scene(bricks, balls);
+                    BenchmarkRunner.run("BallPool.step", "bricks=" + bricks + " balls=" + balls, scene::moveBalls);
+                }
+            }
+        }
+
+        if (matches("Paddle.move", filter)) {
+            Scene scene = new Scene(0, 1);
+            BenchmarkRunner.run("Paddle.move", "-", scene::movePaddle);
+        }
+
+        for (BrickLayout layout : BrickLayout.values()) {
+            if (matches("MapGenerator", filter)) {
+                GameModel model = new GameModel(false);
+                String difficulty = layout.name().substring(layout.name().lastIndexOf('_') + 1);
+                BenchmarkRunner.run("MapGenerator", layout.name(),
+                        () -> new MapGenerator(layout, difficulty, model).getBricks().getCount());
+            }
+        }
+
+        if (matches("GameModel.startGame", filter)) {
+            GameModel model = newModel();
+            BenchmarkRunner.run("GameModel.startGame", "LEVEL_3_HARD", () -> {
+                model.startGame();
+                return model.getBricks().getCount();
+            });
+        }
+
+        // Endless waves: generating a wave (the background thread's work) and swapping it in (the game thread's)
+        // are measured apart, at a fixed wave, so the workload doesn't change between iterations
+        if (matches("WaveGenerator.generate", filter)) {
+            BenchmarkRunner.run("WaveGenerator.generate", "wave=" + BENCHMARK_WAVE, () ->
+                    WaveGenerator.generate(BENCHMARK_WAVE, HARD_DURABILITY, 42).getBrickCount());
+        }
+
+        if (matches("GameModel.swapInWave", filter)) {
+            GameModel model = newModel();
+            MapGenerator map = new MapGenerator(WaveGenerator.generate(BENCHMARK_WAVE, HARD_DURABILITY, 42), "HARD", model);
+            BenchmarkRunner.run("GameModel.swapInWave", "wave=" + BENCHMARK_WAVE, () -> {
+                model.swapInWave(map);
+                return model.getBricks().getCount();
+            });
+        }
+
+        if (BenchmarkRunner.getSink() == 42) { System.out.println(); } // Keep results observable
+    }
+
+    private static boolean matches(String name, String filter) { return name.contains(filter); }
+
+    // Model on the densest built-in level
+    private static GameModel newModel() {
+        GameModel model = new GameModel(false);
+        model.setDIFFICULTY("HARD");
+        model.setLEVEL(3);
+        model.startGame();
+        return model;
+    }
+
+    /**
+     * Synthetic scene: a full-width paddle (balls never drain), a block of sturdy bricks
+     * in the upper half of the field and any number of balls bouncing between them.
+     */
+    private static final class Scene {
+        private static final int FIELD_WIDTH = GameModel.RIGHT_WALL;
+        private static final int FIELD_TOP = 50;
+        private static final int FIELD_HEIGHT = 400;
+        private static final int DURABILITY = 127; // Bricks practically never break
+
+        private final GameModel model = new GameModel(false);
+        private final int brickCount;
+        private final Paddle paddle;
+        private final int ballCount;
+        private BallPool balls;
+        private BrickField bricks;
+        private boolean paddleLeft = true;
+
+        Scene(int brickCount, int ballCount) {
+            this.brickCount = brickCount;
+            this.paddle = new Paddle(0, 715, FIELD_WIDTH, 15, model.getSpeed(2));
+            this.ballCount = ballCount;
+            build();
+        }
+
+        // Creates bricks and launches balls from spread out positions
+        private void build() {
+            bricks = new BrickField(brickCount);
+            if (brickCount > 0) {
+                int columns = (int) Math.ceil(Math.sqrt(brickCount * (double) FIELD_WIDTH / FIELD_HEIGHT));
+                int rows = (int) Math.ceil(brickCount / (double) columns);
+                double cellWidth = FIELD_WIDTH / (double) columns;
+                double cellHeight = FIELD_HEIGHT / (double) rows;
+                for (int i = 0; i < brickCount; i++) {
+                    int x = (int) ((i % columns) * cellWidth);
+                    int y = FIELD_TOP + (int) ((i / columns) * cellHeight);
+                    bricks.add(x, y, Math.max(1, (int) cellWidth - 1), Math.max(1, (int) cellHeight - 1), DURABILITY, i);
+                }
+                bricks.buildGrid(FIELD_WIDTH, GameModel.FIELD_HEIGHT, cellWidth, cellHeight);
+            } else {
+                bricks.buildGrid(FIELD_WIDTH, GameModel.FIELD_HEIGHT, 80, 40);
+            }
+
+            // The pool serves its first ball on the paddle, the rest are spawned in flight
+            double speed = model.getSpeed(0);
+            balls = new BallPool(ballCount, 25, speed, model, paddle, bricks);
+            balls.start();
+            for (int i = 1; i < ballCount; i++) {
+                double x = 10 + (i * 37.0) % (FIELD_WIDTH - 50);
+                balls.spawn(x, 600, i % 2 == 0 ? speed : -speed, -speed);
+            }
+        }
+
+        // One tick of every ball
+        long moveBalls() {
+            balls.step(model.getTickDuration());
+            long result = (long) balls.getX(0);
+            // Rebuild if the balls managed to clear most of the field
+            if (bricks.getAliveCount() < brickCount / 2) { build(); }
+            return result;
+        }
+
+        // One tick of the paddle, bouncing between the borders
+        long movePaddle() {
+            paddle.setMovingLeft(paddleLeft);
+            paddle.setMovingRight(!paddleLeft);
+            paddle.move(model.getTickDuration());
+            if (paddle.getX() <= 0 || paddle.getX() + paddle.getWidth() >= FIELD_WIDTH) { paddleLeft = !paddleLeft; }
+            return (long) paddle.getX();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package benchmark;
+
+import model.AutoPlayer;
+import model.GameModel;
+import model.ReplayPlayer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Runs many independent headless games in parallel on a fork-join pool.
+ * Every game has its own GameModel, played by a seeded AutoPlayer (or replaying a recorded
+ * input log), so results are repeatable at any thread count. The same batch is run for each
+ * thread count to report throughput and scaling; bot games also give per-level completion
+ * and life loss statistics for balance checks.
+ * Run: java -cp out benchmark.SimulationFarm [--games n] [--threads 1,2,4] [--skill s] [--reaction ticks]
+ *      [--max-ticks n] [--replay file]
+ */
+public class SimulationFarm {
+    private static final String[] DIFFICULTIES = {"EASY", "MEDIUM", "HARD"};
+
+    private int games = 300; // Games per batch
+    private int[] threadCounts = defaultThreadCounts(); // Pool sizes to measure
+    private double skill = 0.8; // Bot skill
+    private int reactionTicks = 12; // Bot reaction delay (100 ms at 120 TPS)
+    private int maxTicks = 120 * 60 * 5; // Longest game (five minutes of game time at 120 TPS)
+    private byte[] replayLog; // Input log replayed by every game (null = bots play)
+
+    // Outcome of one game
+    private record GameResult(String difficulty, int level, long ticks, boolean completed, boolean lost, int livesLost) {}
+
+    public static void main(String[] args) throws Exception {
+        SimulationFarm farm = new SimulationFarm();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games" -> farm.games = Integer.parseInt(args[++i]);
+                case "--threads" -> farm.threadCounts = parseList(args[++i]);
+                case "--skill" -> farm.skill = Double.parseDouble(args[++i]);
+                case "--reaction" -> farm.reactionTicks = Integer.parseInt(args[++i]);
+                case "--max-ticks" -> farm.maxTicks = Integer.parseInt(args[++i]);
+                case "--replay" -> farm.replayLog = Files.readAllBytes(Path.of(args[++i]));
+                default -> {
+                    System.err.println("Usage: SimulationFarm [--games n] [--threads 1,2,4] [--skill s] [--reaction ticks]"
+                            + " [--max-ticks n] [--replay file]");
+                    System.exit(2);
+                }
+            }
+        }
+        farm.run();
+    }
+
+    private void run() throws InterruptedException, ExecutionException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%d games per batch, %d cores, %s%n", games, cores,
+                replayLog != null ? "replaying an input log" : String.format("bot skill %.2f, reaction %d ticks", skill, reactionTicks));
+
+        runBatch(threadCounts[threadCounts.length - 1], Math.max(games / 4, 1)); // Warm-up, so the first measurement is not interpreted code
+
+        System.out.printf("%-8s %14s %12s %10s %12s%n", "threads", "ticks", "ticks/s", "speedup", "efficiency");
+        double baseline = 0;
+        List<GameResult> results = null;
+        for (int threads : threadCounts) {
+            long start = System.nanoTime();
+            results = runBatch(threads, games);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            long ticks = 0;
+            for (GameResult result : results) { ticks += result.ticks(); }
+            double ticksPerSecond = ticks / seconds;
+            if (baseline == 0) { baseline = ticksPerSecond / threads; } // Per-thread rate of the first (smallest) pool
+            double speedup = ticksPerSecond / baseline;
+            System.out.printf("%-8d %14d %12.0f %9.2fx %11.0f%%%n", threads, ticks, ticksPerSecond, speedup, 100 * speedup / threads);
+        }
+        if (replayLog == null) { printLevelStatistics(results); }
+    }
+
+    // Plays a batch of games on a pool of the given size
+    private List<GameResult> runBatch(int threads, int count) throws InterruptedException, ExecutionException {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<Callable<GameResult>> tasks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int game = i;
+                tasks.add(() -> replayLog != null ? replayGame() : playGame(game));
+            }
+            List<GameResult> results = new ArrayList<>(count);
+            for (Future<GameResult> future : pool.invokeAll(tasks)) { results.add(future.get()); }
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Bot plays one game; difficulty, level and seeds come from the game number
+    private GameResult playGame(int game) {
+        GameModel model = new GameModel(false);
+        model.setSeed(game);
+        String difficulty = DIFFICULTIES[game % DIFFICULTIES.length];
+        model.setDIFFICULTY(difficulty);
+        int level = 1 + (game / DIFFICULTIES.length) % model.getLevelCount();
+        model.setLEVEL(level);
+        model.startGame();
+
+        AutoPlayer autoPlayer = new AutoPlayer(skill, reactionTicks, game);
+        int lives = model.getLives(), livesLost = 0;
+        long ticks = 0;
+        while (model.isGameRunning() && !model.isLevelCompleted() && ticks < maxTicks) {
+            model.tick(autoPlayer.nextInput(model));
+            ticks++;
+            if (model.getLives() < lives) { livesLost += lives - model.getLives(); }
+            lives = model.getLives();
+        }
+        return new GameResult(difficulty, level, ticks, model.isLevelCompleted(), !model.isGameRunning(), livesLost);
+    }
+
+    // Replays the whole input log once
+    private GameResult replayGame() {
+        GameModel model = new GameModel(false);
+        try {
+            ReplayPlayer player = new ReplayPlayer(replayLog, model);
+            while (player.step()) {}
+            return new GameResult(model.getDIFFICULTY(), model.getLEVEL(), player.getTicks(), model.isLevelCompleted(), !model.isGameRunning(), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Prints completion and life loss per difficulty and level
+    private static void printLevelStatistics(List<GameResult> results) {
+        Map<String, long[]> stats = new TreeMap<>(); // games, completed, lost, lives lost, ticks
+        for (GameResult result : results) {
+            long[] s = stats.computeIfAbsent(result.difficulty() + " " + result.level(), key -> new long[5]);
+            s[0]++;
+            if (result.completed()) { s[1]++; }
+            if (result.lost()) { s[2]++; }
+            s[3] += result.livesLost();
+            s[4] += result.ticks();
+        }
+
+        System.out.printf("%n%-10s %7s %11s %8s %13s %12s%n", "level", "games", "completed", "lost", "lives/game", "ticks/game");
+        for (Map.Entry<String, long[]> entry : stats.entrySet()) {
+            long[] s = entry.getValue();
+            System.out.printf("%-10s %7d %10.1f%% %7.1f%% %13.2f %12d%n", entry.getKey(), s[0],
+                    100.0 * s[1] / s[0], 100.0 * s[2] / s[0], (double) s[3] / s[0], s[4] / s[0]);
+        }
+    }
+
+    // 1, 2, 4, ... up to the number of cores (always including it)
+    private static int[] defaultThreadCounts() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<Integer> counts = new ArrayList<>();
+        for (int n = 1; n < cores; n *= 2) { counts.add(n); }
+        counts.add(cores);
+        return counts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] parseList(String list) {
+        String[] parts = list.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) { values[i] = Integer.parseInt(parts[i].trim()); }
+        return values;
+    }
+}
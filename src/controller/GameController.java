@@ -1,5 +1,6 @@
 package controller;
 
+import model.AutoPlayer;
 import model.GameModel;
 import utils.SoundLoader;
 import view.GameView;
@@ -11,6 +12,8 @@ import java.awt.event.ActionListener;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -21,11 +24,21 @@ public class GameController {
     private ScheduledExecutorService executor;
     private Clip backgroundClip;
     private boolean executorStarted = false;
+    private long lastFrameTime; // Time of the previous loop iteration (nanoseconds)
+    private long accumulator; // Simulation time not yet consumed by fixed steps (nanoseconds)
+    private long lastFrameRequest; // Time a frame was last requested from the view (nanoseconds)
+    private volatile boolean rewinding = false; // Rewind key is held
+    private AutoPlayer autoPlayer; // Plays instead of the keyboard (null = player controls the paddle)
+    private final Queue<Runnable> simulationTasks = new ConcurrentLinkedQueue<>(); // Model changes from the EDT, run by the game loop
+
+    private static final long MAX_FRAME_NANOS = 250_000_000L; // Longest frame time fed into the simulation
+    private static final int REWIND_SPEED = 2; // Ticks scrubbed back per tick while rewinding
 
     // Initializes the game controller
     public GameController(GameModel model, GameView view) {
         this.model = model;
         this.view = view;
+        model.setWavePreparation(true); // Wave changes happen while the game is on screen
 
         // Add button listeners from the menu panel
         view.getMenuPanel().addStartListener(new StartListener());
@@ -43,8 +56,30 @@ public class GameController {
         view.getLevelPanel().addBackListener(new BackButtonListener("Difficulty"));
 
         // Add key listeners from the main game panel
-        view.getGamePanel().addKeyListener(new KeyHandler());
-        view.getGamePanel().setFocusable(true);
+        view.getGameComponent().addKeyListener(new KeyHandler());
+        view.getGameComponent().setFocusable(true);
+    }
+
+    /**
+     * Lets a bot play unattended from level 1 of a difficulty: levels follow one another,
+     * then endless mode runs until the window is closed, and lost games restart.
+     */
+    public void startAutoplay(AutoPlayer autoPlayer, String difficulty) {
+        this.autoPlayer = autoPlayer;
+        model.setDIFFICULTY(difficulty);
+        SwingUtilities.invokeLater(() -> new LevelButtonListener().startLevel(1));
+    }
+
+    // Moves an unattended run on after a cleared level (called on the game loop thread)
+    private void advanceAutoplay() {
+        if (model.getLEVEL() >= model.getLevelCount()) {
+            model.setEndlessModeActivated(true);
+            model.resetBricksOnly(); // First endless wave
+        } else {
+            model.setLEVEL(model.getLEVEL() + 1);
+            model.setLives(3);
+            model.startGame();
+        }
     }
 
     // Check if executor is running
@@ -52,36 +87,107 @@ public class GameController {
         return executorStarted && executor != null && !executor.isShutdown();
     }
 
+    /**
+     * Runs a change of the game state (new map, restart) on the game loop thread, between ticks
+     * and before the next snapshot is published, so the renderer never sees a half-replaced model.
+     * Without a running loop nothing else touches the model and the change runs right away.
+     * Call on the EDT (the loop is started and stopped there).
+     */
+    private void runOnSimulation(Runnable task) {
+        if (isExecutorRunning()) {
+            simulationTasks.add(task);
+        } else {
+            task.run();
+        }
+    }
+
+    // Stops the game loop and waits for its last iteration; changes it didn't take run here
+    private void stopExecutor() {
+        if (isExecutorRunning()) {
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            executorStarted = false;
+        }
+        for (Runnable task; (task = simulationTasks.poll()) != null; ) { task.run(); }
+    }
+
     // Starting game logic and executor
-    // No busy-waiting warnings but remaining performance and smoothing while models moving
+    // The executor wakes up once per display frame (or once per tick if ticks are shorter), while physics
+    // advances in fixed steps taken from an accumulator, so game speed does not depend on the monitor refresh rate.
+    // Every tick is published, so the renderer always has the two ticks around the moment it draws
     private void startExecutor() {
         if (!isExecutorRunning()) {
-            executor = Executors.newSingleThreadScheduledExecutor();
+            ScheduledExecutorService loop = Executors.newSingleThreadScheduledExecutor();
+            executor = loop;
             executorStarted = true;
 
-            int refreshRate = model.getRefreshRate();
+            long frameNanos = 1_000_000_000L / model.getRefreshRate();
+            long periodNanos = Math.min(frameNanos, model.getTickNanos());
+            lastFrameTime = lastFrameRequest = System.nanoTime();
+            accumulator = 0;
 
             executor.scheduleAtFixedRate(() -> {
                 try {
-                    if (!model.gamePaused() && model.isGameRunning()) {
-                        model.getPaddle().move(); // Move the paddle if the game is not paused
-                        model.getBall().move(); // Move the ball if the game is not paused
-                        model.getBall().checkCollision(); // Check ball collision if game is not paused
+                    for (Runnable task; (task = simulationTasks.poll()) != null; ) { task.run(); } // Changes requested by the EDT
 
-                        if (model.isLevelCompleted()) {
-                            model.setGamePaused(true);
-                            handleLevelCompletion();
-                        }
+                    long now = System.nanoTime();
+                    // Clamp long stalls (dialogs, GC) so the simulation does not try to catch up all at once
+                    long elapsed = Math.min(now - lastFrameTime, MAX_FRAME_NANOS);
+                    lastFrameTime = now;
 
-                        if (!model.isGameRunning()) {
-                            SwingUtilities.invokeLater(this::showGameOverDialog);
+                    if (!model.gamePaused() && model.isGameRunning()) {
+                        long tickNanos = model.getTickNanos();
+                        accumulator += elapsed;
+
+                        while (accumulator >= tickNanos && !model.gamePaused() && model.isGameRunning()) {
+                            if (rewinding) {
+                                model.rewind(REWIND_SPEED); // Scrub back through the recent history
+                            } else if (autoPlayer != null) {
+                                model.tick(autoPlayer.nextInput(model)); // The bot decides this step's input
+                            } else {
+                                // Move the paddle and the ball by one fixed step, with the input that arrived
+                                // before the end of this step in real time
+                                model.tickAt(now - accumulator + tickNanos);
+                            }
+                            accumulator -= tickNanos;
+
+                            if (model.isLevelCompleted() && model.getWave() > 0) {
+                                model.resetBricksOnly(); // Endless wave cleared: swap in the pre-built next wave without pausing
+                            } else if (model.isLevelCompleted() && autoPlayer != null) {
+                                advanceAutoplay(); // Unattended runs never stop for dialogs
+                            } else if (model.isLevelCompleted()) {
+                                model.setGamePaused(true);
+                                handleLevelCompletion();
+                            }
+
+                            if (!model.isGameRunning() && autoPlayer != null) {
+                                model.renewGame(); // Bot lost: play the level again
+                            } else if (!model.isGameRunning()) {
+                                SwingUtilities.invokeLater(this::showGameOverDialog);
+                            }
                         }
+                        // The newest state belongs to the time not yet consumed; the renderer blends towards it when it draws
+                        model.setTickTime(now - accumulator);
+                    } else {
+                        accumulator = 0; // Do not replay paused time after resuming
+                        model.stopTickClock(now); // Objects stay where they were drawn
+                    }
+                    model.publishSnapshot(); // Hand the new state to the renderer
+                    if (now - lastFrameRequest >= frameNanos - periodNanos / 2) { // Passive screens draw once per display frame
+                        lastFrameRequest = now;
+                        view.requestFrame();
                     }
-                    view.repaint();
-                } catch (Exception e) {
-                    System.err.println("Error: " + e);
+                } catch (RuntimeException e) {
+                    // The model may be half-updated: stop ticking (the same tick would fail every frame) and report once
+                    loop.shutdown();
+                    e.printStackTrace();
+                    SwingUtilities.invokeLater(() -> showLoopError(e));
                 }
-            }, 0, 1000L / refreshRate, TimeUnit.MILLISECONDS);
+            }, 0, periodNanos, TimeUnit.NANOSECONDS);
         }
     }
 
@@ -123,6 +229,7 @@ public class GameController {
             if(isExecutorRunning()) {
                 executor.shutdown();
             }
+            SoundLoader.closeEffects();
             System.exit(0);
         }
     }
@@ -131,7 +238,7 @@ public class GameController {
     class EasyButtonListener implements ActionListener {
         public void actionPerformed(ActionEvent e) {
             model.setDIFFICULTY("EASY"); // Select EASY mode
-            view.setMainPanel("Level"); // Switch view to levels panel
+            showLevels(); // Switch view to levels panel
         }
     }
 
@@ -139,7 +246,7 @@ public class GameController {
     class MediumButtonListener implements ActionListener {
         public void actionPerformed(ActionEvent e) {
             model.setDIFFICULTY("MEDIUM"); // Select MEDIUM mode
-            view.setMainPanel("Level"); // Switch view to levels panel
+            showLevels(); // Switch view to levels panel
         }
     }
 
@@ -147,10 +254,16 @@ public class GameController {
     class HardButtonListener implements ActionListener {
         public void actionPerformed(ActionEvent e) {
             model.setDIFFICULTY("HARD"); // Select HARD mode
-            view.setMainPanel("Level"); // Switch view to levels panel
+            showLevels(); // Switch view to levels panel
         }
     }
 
+    // Shows the levels of the selected difficulty from the level pack
+    private void showLevels() {
+        view.getLevelPanel().setLevelCount(model.getLevelCount());
+        view.setMainPanel("Level");
+    }
+
     // Handles the game level selection button click
     class LevelButtonListener implements ActionListener {
         @Override
@@ -171,9 +284,11 @@ public class GameController {
         }
 
         private void startLevel(int level) {
-            model.setLEVEL(level);
-            model.setGamePaused(false);
-            model.startGame();
+            runOnSimulation(() -> {
+                model.setLEVEL(level);
+                model.setGamePaused(false);
+                model.startGame();
+            });
             startExecutor();
             if (backgroundClip == null) { backgroundClip = SoundLoader.loadLoopClip("/sounds/background.wav"); }
             view.setMainPanel("Game");
@@ -211,23 +326,42 @@ public class GameController {
                 // If Esc - pause the game
                 handlePause();
             } else if (key == KeyEvent.VK_SPACE) {
-                model.getBall().keyPressed(e); // Pass space to Ball
+                model.requestLaunch(); // Space starts the ball
+            } else if (key == KeyEvent.VK_R) {
+                rewinding = true; // Holding R rewinds the game
+            } else if (key == KeyEvent.VK_F3) {
+                view.togglePerformanceOverlay(); // F3 shows or hides performance statistics
+            } else if (key == KeyEvent.VK_F11) {
+                view.toggleFullScreen(); // F11 switches between the window and full screen
             } else {
-                model.getPaddle().setMoving(key, true); // Pass arrow keys to Paddle
+                setPaddleMoving(key, true); // Pass arrow keys to Paddle
             }
         }
 
         @Override
-        public void keyReleased(KeyEvent e) { model.getPaddle().setMoving(e.getKeyCode(), false); } // Pass the event to the Paddle model
+        public void keyReleased(KeyEvent e) {
+            if (e.getKeyCode() == KeyEvent.VK_R) { rewinding = false; }
+            setPaddleMoving(e.getKeyCode(), false); // Pass the event to the Paddle model
+        }
+
+        // Maps arrow keys to paddle movement input (applied by the next tick)
+        private void setPaddleMoving(int keyCode, boolean isMoving) {
+            if (keyCode == KeyEvent.VK_LEFT) {
+                model.setMovingLeft(isMoving);
+            } else if (keyCode == KeyEvent.VK_RIGHT) {
+                model.setMovingRight(isMoving);
+            }
+        }
 
         private void handlePause() {
             SoundLoader.pauseClip(backgroundClip);
             model.setGamePaused(true); // Stop the game loop flag
-            model.getPaddle().stopMoving(); // Stop the paddle
+            model.releaseInput(); // Stop the paddle
+            rewinding = false;
 
             // Show the pause dialog
             int option = JOptionPane.showOptionDialog(
-                    view.getGamePanel(),
+                    view.getGameComponent(),
                     "Do you want to continue or go back to the menu?",
                     "PAUSE",
                     JOptionPane.YES_NO_OPTION,
@@ -242,10 +376,7 @@ public class GameController {
             // If user chooses to go back to the menu
             if (option == JOptionPane.NO_OPTION) {
                 stopBackgroundMusic();
-                if (isExecutorRunning()) {
-                    executor.shutdownNow();
-                    executorStarted = false;
-                }
+                stopExecutor();
                 view.setMainPanel("Menu");
                 model.setLives(3);
             } else {
@@ -261,27 +392,29 @@ public class GameController {
         SwingUtilities.invokeLater(() -> {
             int currentLevel = model.getLEVEL();
 
-            // If level 3, activate endless mode and reset only the bricks
-            if (currentLevel == 3) {
+            // After the last level of the pack, activate endless mode and start its first wave
+            if (currentLevel >= model.getLevelCount()) {
                 if (!model.isEndlessModeActivated()) {
                     SoundLoader.pauseClip(backgroundClip);
                     JOptionPane.showMessageDialog(
-                            view.getGamePanel(),
-                            "Level 3 completed! Now you are in endless mode.\n Watch your lives and max out score :)",
+                            view.getGameComponent(),
+                            "Level " + currentLevel + " completed! Now you are in endless mode.\n Watch your lives and max out score :)",
                             "Endless Mode",
                             JOptionPane.INFORMATION_MESSAGE
                     );
                     SoundLoader.playWAV("/sounds/crash.wav");
                     resumeBackgroundMusic();
-                    model.setEndlessModeActivated(true);
                 }
-                model.resetBricksOnly();
-                model.setGamePaused(false);
+                runOnSimulation(() -> {
+                    model.setEndlessModeActivated(true);
+                    model.resetBricksOnly();
+                    model.setGamePaused(false);
+                });
             } else {
-                // Level 1 or 2 completed – prompt user for next action
+                // Level before the last completed – prompt user for next action
                 SoundLoader.pauseClip(backgroundClip);
                 int choice = JOptionPane.showOptionDialog(
-                        view.getGamePanel(),
+                        view.getGameComponent(),
                         "What do you want to do?",
                         "Level Completed",
                         JOptionPane.DEFAULT_OPTION,
@@ -311,7 +444,7 @@ public class GameController {
         model.setGamePaused(true);
 
         int option = JOptionPane.showOptionDialog(
-                view.getGamePanel(),
+                view.getGameComponent(),
                 "Do you want to restart the game or go back to the menu?",
                 "GAME OVER",
                 JOptionPane.YES_NO_OPTION,
@@ -330,24 +463,29 @@ public class GameController {
         }
     }
 
+    // Tells the player the game stopped after an error in the game loop and returns to the menu
+    private void showLoopError(RuntimeException e) {
+        JOptionPane.showMessageDialog(view.getGameComponent(), "The game stopped after an error:\n" + e, "ERROR", JOptionPane.ERROR_MESSAGE);
+        goToMenu();
+    }
+
     private void restartLevel(int level) {
-        // Restart lives when go to next level
-        if(model.getLEVEL() != level) {
-            model.setLives(3);
-        }
-        model.setLEVEL(level);
-        model.renewGame();
-        model.setGamePaused(false);
+        runOnSimulation(() -> {
+            // Restart lives when go to next level
+            if(model.getLEVEL() != level) {
+                model.setLives(3);
+            }
+            model.setLEVEL(level);
+            model.renewGame();
+            model.setGamePaused(false);
+        });
         resumeBackgroundMusic();
         view.setMainPanel("Game");
     }
 
     private void goToMenu() {
         stopBackgroundMusic();
-        if (isExecutorRunning()) {
-            executor.shutdownNow();
-            executorStarted = false;
-        }
+        stopExecutor();
         model.setLevelCompleted(false);
         model.setLives(3);
         view.setMainPanel("Menu");
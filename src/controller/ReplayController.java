@@ -0,0 +1,82 @@
+package controller;
+
+import model.GameModel;
+import model.ReplayPlayer;
+import view.GameView;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays an input log back in the game window in real time.
+ * Uses the same fixed-step loop as GameController, but ticks take their input from the log
+ * instead of the keyboard. The window keeps the last frame when the log ends.
+ */
+public class ReplayController {
+    private final GameModel model; // Model the log is replayed into
+    private final GameView view; // Shows the replay
+    private final ReplayPlayer player; // Reads the input log
+    private ScheduledExecutorService executor;
+    private long lastFrameTime; // Time of the previous loop iteration (nanoseconds)
+    private long accumulator; // Simulation time not yet consumed by fixed steps (nanoseconds)
+    private long frameNanos; // Time between frames
+    private long periodNanos; // Time between loop iterations
+    private ScheduledFuture<?> loop; // Scheduled loop iterations
+    private long lastFrameRequest; // Time a frame was last requested from the view (nanoseconds)
+
+    private static final long MAX_FRAME_NANOS = 250_000_000L; // Longest frame time fed into the simulation
+
+    // ReplayController constructor
+    public ReplayController(GameModel model, GameView view, ReplayPlayer player) {
+        this.model = model;
+        this.view = view;
+        this.player = player;
+    }
+
+    // Shows the game screen and starts replaying
+    public void start() {
+        view.setMainPanel("Game");
+        executor = Executors.newSingleThreadScheduledExecutor();
+        frameNanos = 1_000_000_000L / model.getRefreshRate();
+        lastFrameTime = lastFrameRequest = System.nanoTime();
+        schedule(0);
+    }
+
+    // Like the game loop, wakes up once per frame or once per tick if ticks are shorter, so every tick is published
+    private void schedule(long delayNanos) {
+        periodNanos = Math.min(frameNanos, model.getTickNanos());
+        if (loop != null) { loop.cancel(false); }
+        loop = executor.scheduleAtFixedRate(this::frame, delayNanos, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // One loop iteration: replays the ticks due since the last one, then hands the state to the renderer
+    private void frame() {
+        try {
+            long now = System.nanoTime();
+            accumulator += Math.min(now - lastFrameTime, MAX_FRAME_NANOS);
+            lastFrameTime = now;
+
+            while (accumulator >= model.getTickNanos()) {
+                accumulator -= model.getTickNanos();
+                if (!player.step()) {
+                    System.out.printf("Replay finished: %d games, %d ticks, score %d%n", player.getGames(), player.getTicks(), model.getScore());
+                    executor.shutdown();
+                    break;
+                }
+            }
+            model.setTickTime(now - accumulator); // The renderer blends towards the newest state when it draws
+            model.publishSnapshot(); // Hand the new state to the renderer
+            if (now - lastFrameRequest >= frameNanos - periodNanos / 2 || executor.isShutdown()) { // Passive screens draw once per display frame (and the last one)
+                lastFrameRequest = now;
+                view.requestFrame();
+            }
+            if (Math.min(frameNanos, model.getTickNanos()) != periodNanos && !executor.isShutdown()) { schedule(periodNanos); } // The log changed the tick rate
+        } catch (IOException e) {
+            System.err.println("Replay stopped: " + e.getMessage());
+            executor.shutdown();
+        }
+    }
+}
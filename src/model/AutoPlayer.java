@@ -0,0 +1,117 @@
+package model;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Computer player producing the per-tick input bits that the keyboard would otherwise supply.
+ * It predicts where the next falling ball reaches the paddle (including wall bounces, ignoring
+ * bricks) and moves there. Skill (0..1) sets how far it misses its aim; the reaction delay
+ * makes it act on what it saw some ticks ago. With the same seed it plays the same game,
+ * so it gives repeatable load for soak tests and benchmarks.
+ */
+public class AutoPlayer {
+    private static final double STEER = 0.35; // Largest intended hit offset from the paddle center (paddle widths)
+    private static final double MAX_ERROR = 0.8; // Largest aim error at skill 0 (paddle widths)
+
+    private final double skill; // 1 = aims exactly, 0 = misses by up to most of the paddle width
+    private final int reactionTicks; // Ticks between seeing the ball and reacting to it
+    private final SplittableRandom rand; // Aim errors
+    private final double[] targets; // Target paddle centers of the last reactionTicks + 1 ticks (ring)
+    private int targetIndex = 0; // Slot of the current tick in targets
+    private int trackedBall = -1; // Ball the current aim error belongs to
+    private boolean trackedFalling = false; // Tracked ball was falling at the last tick
+    private double aimError = 0; // Offset from the predicted landing point (pixels)
+    private int stuckTicks = 0; // Ticks the ball has waited on the paddle
+    private BallPool seenBalls; // Balls of the map being played (a new pool means a new map)
+
+    // AutoPlayer constructor (reactionTicks >= 0, skill in 0..1)
+    public AutoPlayer(double skill, int reactionTicks, long seed) {
+        if (skill < 0 || skill > 1) { throw new IllegalArgumentException("Skill must be between 0 and 1: " + skill); }
+        if (reactionTicks < 0) { throw new IllegalArgumentException("Reaction delay must not be negative: " + reactionTicks); }
+        this.skill = skill;
+        this.reactionTicks = reactionTicks;
+        this.rand = new SplittableRandom(seed);
+        this.targets = new double[reactionTicks + 1];
+    }
+
+    // Forgets what was seen on the previous map
+    private void reset() {
+        Arrays.fill(targets, Double.NaN);
+        trackedBall = -1;
+        trackedFalling = false;
+        stuckTicks = 0;
+    }
+
+    // Returns the input for the next tick of the model (GameModel.INPUT_* bits)
+    public int nextInput(GameModel model) {
+        BallPool balls = model.getBalls();
+        Paddle paddle = model.getPaddle();
+        if (balls == null || paddle == null) { return 0; }
+        if (balls != seenBalls) {
+            seenBalls = balls;
+            reset();
+        }
+
+        if (balls.isStuck()) {
+            // Wait as long as a player would before serving
+            return ++stuckTicks > reactionTicks ? GameModel.INPUT_LAUNCH : 0;
+        }
+        stuckTicks = 0;
+
+        // Remember this tick's target and act on the one seen reactionTicks ago
+        targets[targetIndex] = predictTarget(balls, paddle);
+        targetIndex = (targetIndex + 1) % targets.length;
+        double target = targets[targetIndex]; // Oldest slot
+        if (Double.isNaN(target)) { return 0; }
+
+        double center = paddle.getX() + paddle.getWidth() / 2.0;
+        double deadZone = paddle.getSpeed() * model.getTickDuration() / 2; // Closer than half a step: stay
+        if (target < center - deadZone) { return GameModel.INPUT_LEFT; }
+        if (target > center + deadZone) { return GameModel.INPUT_RIGHT; }
+        return 0;
+    }
+
+    // Paddle center the player aims for: landing point of the first falling ball, or under the lowest ball
+    private double predictTarget(BallPool balls, Paddle paddle) {
+        double radius = balls.getDiameter() / 2.0;
+        double landingY = paddle.getY() - balls.getDiameter(); // Ball top when it touches the paddle
+
+        int first = -1, lowest = -1;
+        double firstTime = Double.MAX_VALUE;
+        for (int i = 0; i < balls.getHighWater(); i++) {
+            if (!balls.isActive(i)) { continue; }
+            if (lowest < 0 || balls.getY(i) > balls.getY(lowest)) { lowest = i; }
+            if (balls.getYSpeed(i) > 0 && balls.getY(i) <= landingY) {
+                double time = (landingY - balls.getY(i)) / balls.getYSpeed(i);
+                if (time < firstTime) {
+                    firstTime = time;
+                    first = i;
+                }
+            }
+        }
+        if (lowest < 0) { return Double.NaN; }
+
+        // New ball to catch, or the tracked one started falling again: pick a new aim point.
+        // Hitting off-center steers the ball (a dead-center hit bounces it straight back up);
+        // lower skill adds an error that can miss the paddle entirely
+        int ball = first >= 0 ? first : lowest;
+        boolean falling = first >= 0;
+        if (ball != trackedBall || (falling && !trackedFalling)) {
+            double steer = STEER * (rand.nextDouble() * 2 - 1);
+            double error = (1 - skill) * MAX_ERROR * (rand.nextDouble() * 2 - 1);
+            aimError = (steer + error) * paddle.getWidth();
+        }
+        trackedBall = ball;
+        trackedFalling = falling;
+
+        if (!falling) { return balls.getX(lowest) + radius + aimError; } // Follow until it comes down
+
+        // Unfold the path over the walls: the ball moves in [0, GameModel.RIGHT_WALL - diameter]
+        double span = GameModel.RIGHT_WALL - balls.getDiameter();
+        double x = balls.getX(first) + balls.getXSpeed(first) * firstTime;
+        x = Math.abs(x) % (2 * span);
+        if (x > span) { x = 2 * span - x; }
+        return x + radius + aimError;
+    }
+}
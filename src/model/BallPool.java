@@ -0,0 +1,453 @@
+package model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Stores all balls in play as parallel primitive arrays with an active mask.
+ * The pool is allocated once per map, so serving and spawning balls (stress scenes)
+ * allocates nothing. step() advances every active ball in one pass.
+ * One ball is served stuck to the paddle; a life is lost only when the last ball drains.
+ */
+public class BallPool {
+    private final int diameter; // Ball diameter (same for all balls)
+    private final double speed; // General speed (pixels per second)
+    private final GameModel model; // Game model reference
+    private final Paddle paddle; // Paddle reference
+    private final BrickField bricks; // Bricks reference
+
+    private final double[] x; // X coordinates
+    private final double[] y; // Y coordinates
+    private final double[] prevX; // X coordinates at the previous tick (for render interpolation)
+    private final double[] prevY; // Y coordinates at the previous tick (for render interpolation)
+    private final double[] xSpeed; // Speeds on X axis (pixels per second)
+    private final double[] ySpeed; // Speeds on Y axis (pixels per second)
+    private final boolean[] active; // Active mask
+    private final int[] freeSlots; // Stack of inactive slots
+    private int freeCount; // Number of entries on the free stack
+    private int activeCount = 0; // Number of balls in play
+    private int highWater = 0; // One past the highest slot ever used (bounds the step loop)
+    private int stuckBall = -1; // Slot of the ball waiting on the paddle (-1 = none)
+    private boolean collisionTiming = false; // Measure time spent in contact searches
+    private long collisionNanos = 0; // Contact search time since the last takeCollisionNanos()
+
+    /**
+     * COLLISION SOLVER
+     */
+    private static final int MAX_CONTACTS = 8; // Contacts resolved for one ball in a single tick
+    private static final double SKIN = 1e-6; // Fraction of the step kept between ball and surface after a contact
+
+    private static final int HIT_NONE = 0;
+    private static final int HIT_WALL = 1;
+    private static final int HIT_PADDLE = 2;
+    private static final int HIT_BRICK = 3;
+
+    // Earliest contact found by the current sweep (kept in fields so the solver does not allocate)
+    private double hitTime;
+    private double hitNormalX;
+    private double hitNormalY;
+    private int hitKind;
+    private int hitBrick;
+
+    // BallPool constructor - serves the first ball on the paddle
+    public BallPool(int capacity, int diameter, double speed, GameModel modelInstance, Paddle paddle, BrickField bricks) {
+        this.diameter = diameter;
+        this.speed = speed;
+        this.model = modelInstance;
+        this.paddle = paddle;
+        this.bricks = bricks;
+
+        x = new double[capacity];
+        y = new double[capacity];
+        prevX = new double[capacity];
+        prevY = new double[capacity];
+        xSpeed = new double[capacity];
+        ySpeed = new double[capacity];
+        active = new boolean[capacity];
+        freeSlots = new int[capacity];
+        for (int i = 0; i < capacity; i++) { freeSlots[i] = capacity - 1 - i; } // Lowest slots first
+        freeCount = capacity;
+
+        serve();
+    }
+
+    // Enables measuring the time spent in contact searches (used by the tick profiler)
+    public void setCollisionTiming(boolean collisionTiming) { this.collisionTiming = collisionTiming; }
+
+    // Returns the contact search time measured since the last call and resets it
+    public long takeCollisionNanos() {
+        long nanos = collisionNanos;
+        collisionNanos = 0;
+        return nanos;
+    }
+
+    public int getCapacity() { return active.length; }
+    public int getActiveCount() { return activeCount; }
+    public int getHighWater() { return highWater; }
+    public int getDiameter() { return diameter; }
+    public boolean isActive(int i) { return active[i]; }
+    public double getX(int i) { return x[i]; }
+    public double getY(int i) { return y[i]; }
+    public double getPrevX(int i) { return prevX[i]; }
+    public double getPrevY(int i) { return prevY[i]; }
+    public double getXSpeed(int i) { return xSpeed[i]; }
+    public double getYSpeed(int i) { return ySpeed[i]; }
+
+    // True while a ball waits on the paddle to be launched
+    public boolean isStuck() { return stuckBall >= 0; }
+
+
+    /**
+     * Adds a moving ball. Returns its slot, or -1 if the pool is full.
+     */
+    public int spawn(double ballX, double ballY, double speedX, double speedY) {
+        if (freeCount == 0) { return -1; }
+        int i = freeSlots[--freeCount];
+        x[i] = prevX[i] = ballX;
+        y[i] = prevY[i] = ballY;
+        xSpeed[i] = speedX;
+        ySpeed[i] = speedY;
+        active[i] = true;
+        activeCount++;
+        if (i >= highWater) { highWater = i + 1; }
+        return i;
+    }
+
+    // Removes a ball from play
+    private void despawn(int i) {
+        active[i] = false;
+        activeCount--;
+        freeSlots[freeCount++] = i;
+        if (i == stuckBall) { stuckBall = -1; }
+    }
+
+    // Places a new ball on the paddle, waiting for launch
+    private void serve() {
+        stuckBall = spawn(0, 0, 0, 0);
+        if (stuckBall >= 0) {
+            followPaddle(stuckBall);
+            prevX[stuckBall] = x[stuckBall];
+        }
+    }
+
+    // Keeps the stuck ball centered on the paddle (previous position too, so both interpolate together)
+    private void followPaddle(int i) {
+        prevX[i] = paddle.getPrevX() + (paddle.getWidth() / 2.0) - (diameter / 2.0);
+        x[i] = paddle.getX() + (paddle.getWidth() / 2.0) - (diameter / 2.0);
+        y[i] = paddle.getY() - diameter;
+        prevY[i] = y[i];
+    }
+
+    // Start ball movement if stuck
+    public void start() {
+        if (stuckBall >= 0) {
+            xSpeed[stuckBall] = speed; // Ball starts moving
+            ySpeed[stuckBall] = -speed;
+            stuckBall = -1;
+        }
+    }
+
+    /**
+     * STATE SNAPSHOTS (rewind keyframes)
+     * Slots at or above highWater were never used and sit at the bottom of the free stack
+     * in their initial order, so only the freed slots pushed above them are stored.
+     */
+
+    // Bytes written by writeState() for the current state
+    public int getStateSize() {
+        int pushed = freeCount - (active.length - highWater);
+        return 4 * 4 + 4 * pushed + highWater + activeCount * 6 * 8;
+    }
+
+    // Writes the complete pool state
+    public void writeState(ByteBuffer out) {
+        out.putInt(highWater).putInt(activeCount).putInt(stuckBall);
+        int untouched = active.length - highWater;
+        out.putInt(freeCount - untouched);
+        for (int f = untouched; f < freeCount; f++) { out.putInt(freeSlots[f]); }
+        for (int i = 0; i < highWater; i++) {
+            out.put((byte) (active[i] ? 1 : 0));
+            if (active[i]) {
+                out.putDouble(x[i]).putDouble(y[i]).putDouble(prevX[i]).putDouble(prevY[i]);
+                out.putDouble(xSpeed[i]).putDouble(ySpeed[i]);
+            }
+        }
+    }
+
+    // Restores a state written by writeState()
+    public void readState(ByteBuffer in) {
+        highWater = in.getInt();
+        activeCount = in.getInt();
+        stuckBall = in.getInt();
+        int untouched = active.length - highWater;
+        for (int f = 0; f < untouched; f++) { freeSlots[f] = active.length - 1 - f; }
+        freeCount = untouched + in.getInt();
+        for (int f = untouched; f < freeCount; f++) { freeSlots[f] = in.getInt(); }
+        for (int i = 0; i < active.length; i++) {
+            active[i] = i < highWater && in.get() != 0;
+            if (active[i]) {
+                x[i] = in.getDouble();
+                y[i] = in.getDouble();
+                prevX[i] = in.getDouble();
+                prevY[i] = in.getDouble();
+                xSpeed[i] = in.getDouble();
+                ySpeed[i] = in.getDouble();
+            }
+        }
+    }
+
+    /**
+     * Moves every active ball one simulation step of dt seconds.
+     * Balls falling below the paddle are removed; when the last one drains
+     * a life is lost and a new ball is served.
+     */
+    public void step(double dt) {
+        int end = highWater;
+        for (int i = 0; i < end; i++) {
+            if (!active[i]) { continue; }
+            if (i == stuckBall) {
+                followPaddle(i);
+                continue;
+            }
+
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+
+            // Ball has fallen below the paddle
+            if (y[i] >= paddle.getY() + paddle.getHeight()) {
+                despawn(i);
+                continue;
+            }
+
+            move(i, dt);
+        }
+
+        if (activeCount == 0) { loseLife(); }
+    }
+
+    /**
+     * Moves a single ball. The path is swept against walls, the paddle and bricks:
+     * the earliest contact is resolved, then the rest of the step continues from there,
+     * so a fast ball cannot tunnel through thin bricks or corners and can hit several
+     * surfaces in one tick.
+     */
+    private void move(int i, double dt) {
+        double remaining = dt;
+        for (int contact = 0; contact < MAX_CONTACTS && remaining > 0; contact++) {
+            double dx = xSpeed[i] * remaining;
+            double dy = ySpeed[i] * remaining;
+
+            if (collisionTiming) {
+                long start = System.nanoTime();
+                findEarliestContact(i, dx, dy);
+                collisionNanos += System.nanoTime() - start;
+            } else {
+                findEarliestContact(i, dx, dy);
+            }
+
+            if (hitKind == HIT_NONE) {
+                x[i] += dx;
+                y[i] += dy;
+                return;
+            }
+
+            // Advance to the contact point, leaving a tiny gap to the surface
+            double t = Math.max(0.0, hitTime - SKIN);
+            x[i] += dx * t;
+            y[i] += dy * t;
+            remaining -= remaining * hitTime;
+
+            resolveContact(i);
+        }
+    }
+
+    // Finds the first surface hit along the path (dx, dy) of the ball center
+    private void findEarliestContact(int i, double dx, double dy) {
+        double radius = diameter / 2.0;
+        double cx = x[i] + radius;
+        double cy = y[i] + radius;
+
+        hitKind = HIT_NONE;
+        hitTime = 1.0;
+
+        // Walls (left, right, top) - only when moving towards them
+        if (dx < 0) { testWall((radius - cx) / dx, 1, 0); }
+        if (dx > 0) { testWall((GameModel.RIGHT_WALL - radius - cx) / dx, -1, 0); }
+        if (dy < 0) { testWall((radius - cy) / dy, 0, 1); }
+
+        // Paddle
+        if (sweepRect(cx, cy, dx, dy, radius, paddle.getX(), paddle.getY(), paddle.getWidth(), paddle.getHeight())) {
+            hitKind = HIT_PADDLE;
+        }
+
+        // Bricks from the grid cells covered by the whole swept path
+        BrickGrid grid = bricks.getGrid();
+        int candidates = grid.query(Math.min(x[i], x[i] + dx), Math.min(y[i], y[i] + dy), diameter + Math.abs(dx), diameter + Math.abs(dy));
+        for (int c = 0; c < candidates; c++) {
+            int b = grid.getResult(c);
+            if (sweepRect(cx, cy, dx, dy, radius, bricks.getX(b), bricks.getY(b), bricks.getWidth(b), bricks.getHeight(b))) {
+                hitKind = HIT_BRICK;
+                hitBrick = b;
+            }
+        }
+    }
+
+    // Records a wall contact if it happens before the current earliest one
+    private void testWall(double t, double normalX, double normalY) {
+        if (t < hitTime) {
+            hitTime = Math.max(0.0, t);
+            hitNormalX = normalX;
+            hitNormalY = normalY;
+            hitKind = HIT_WALL;
+        }
+    }
+
+    /**
+     * Sweeps a circle (center cx, cy) along (dx, dy) against a rectangle.
+     * The rectangle is expanded by the radius with rounded corners (Minkowski sum),
+     * so the test becomes a ray cast. Returns true and stores time and normal
+     * if the contact happens before the current earliest contact.
+     */
+    private boolean sweepRect(double cx, double cy, double dx, double dy, double radius,
+                              double rx, double ry, double rw, double rh) {
+        double minX = rx - radius, maxX = rx + rw + radius;
+        double minY = ry - radius, maxY = ry + rh + radius;
+
+        // Already overlapping at the start of the sweep - resolve immediately if moving inwards
+        double nearestX = Math.max(rx, Math.min(cx, rx + rw));
+        double nearestY = Math.max(ry, Math.min(cy, ry + rh));
+        double offX = cx - nearestX, offY = cy - nearestY;
+        double distSq = offX * offX + offY * offY;
+        if (distSq < radius * radius) {
+            double normalX, normalY;
+            if (distSq > 0) {
+                double dist = Math.sqrt(distSq);
+                normalX = offX / dist;
+                normalY = offY / dist;
+            } else {
+                // Center inside the rectangle - push out through the side facing against the motion
+                if (Math.abs(dx) > Math.abs(dy)) { normalX = -Math.signum(dx); normalY = 0; }
+                else { normalX = 0; normalY = dy != 0 ? -Math.signum(dy) : -1; }
+            }
+            if (dx * normalX + dy * normalY >= 0) { return false; } // Moving away already
+            return recordContact(0.0, normalX, normalY);
+        }
+
+        // Ray against the expanded box (slab test)
+        double tEnter = 0.0, tExit = 1.0;
+        double normalX = 0, normalY = 0;
+
+        if (dx != 0) {
+            double t1 = (minX - cx) / dx, t2 = (maxX - cx) / dx;
+            double near = Math.min(t1, t2), far = Math.max(t1, t2);
+            if (near > tEnter) { tEnter = near; normalX = dx > 0 ? -1 : 1; normalY = 0; }
+            tExit = Math.min(tExit, far);
+        } else if (cx < minX || cx > maxX) {
+            return false;
+        }
+
+        if (dy != 0) {
+            double t1 = (minY - cy) / dy, t2 = (maxY - cy) / dy;
+            double near = Math.min(t1, t2), far = Math.max(t1, t2);
+            if (near > tEnter) { tEnter = near; normalX = 0; normalY = dy > 0 ? -1 : 1; }
+            tExit = Math.min(tExit, far);
+        } else if (cy < minY || cy > maxY) {
+            return false;
+        }
+
+        if (tEnter > tExit || tEnter >= hitTime) { return false; }
+
+        // Entry point lies next to a face - the expanded box is exact there
+        double px = cx + dx * tEnter, py = cy + dy * tEnter;
+        if ((px >= rx && px <= rx + rw) || (py >= ry && py <= ry + rh)) {
+            if (normalX == 0 && normalY == 0) { return false; } // Only grazing the surface
+            return recordContact(tEnter, normalX, normalY);
+        }
+
+        // Entry point lies in a corner region - cast the ray against the corner circle
+        double cornerX = px < rx ? rx : rx + rw;
+        double cornerY = py < ry ? ry : ry + rh;
+        double fx = cx - cornerX, fy = cy - cornerY;
+        double a = dx * dx + dy * dy;
+        double b = fx * dx + fy * dy;
+        double c = fx * fx + fy * fy - radius * radius;
+        double disc = b * b - a * c;
+        if (disc < 0) { return false; } // Passes the corner without touching it
+
+        double t = (-b - Math.sqrt(disc)) / a;
+        if (t < 0 || t > 1) { return false; }
+
+        double hitX = cx + dx * t - cornerX, hitY = cy + dy * t - cornerY;
+        return recordContact(t, hitX / radius, hitY / radius);
+    }
+
+    // Stores a contact if it is earlier than the current earliest one
+    private boolean recordContact(double t, double normalX, double normalY) {
+        if (t >= hitTime) { return false; }
+        hitTime = t;
+        hitNormalX = normalX;
+        hitNormalY = normalY;
+        return true;
+    }
+
+    // Applies the effect of the earliest contact (bounce, score, brick damage)
+    private void resolveContact(int i) {
+        switch (hitKind) {
+            case HIT_PADDLE -> {
+                model.getEventListener().onPaddleHit();
+                reflectFromPaddle(i);
+            }
+            case HIT_BRICK -> {
+                model.increaseScore(); // Add points
+
+                // Collision detected - check if brick is destroyed and then if level is cleared
+                boolean destroyed = bricks.hit(hitBrick);
+                model.getEventListener().onBrickHit(destroyed);
+                if (destroyed) { model.checkLevelComplete(); }
+                reflect(i, hitNormalX, hitNormalY);
+            }
+            default -> reflect(i, hitNormalX, hitNormalY); // Wall
+        }
+    }
+
+    // Mirrors the velocity around the surface normal
+    private void reflect(int i, double normalX, double normalY) {
+        double dot = xSpeed[i] * normalX + ySpeed[i] * normalY;
+        if (dot >= 0) { return; } // Already moving away from the surface
+        xSpeed[i] -= 2 * dot * normalX;
+        ySpeed[i] -= 2 * dot * normalY;
+    }
+
+    // Paddle bounce with angle based on the collision point (always upwards)
+    private void reflectFromPaddle(int i) {
+        double bounceAngle = getBounceAngle(i);
+        double totalSpeed = Math.sqrt(xSpeed[i] * xSpeed[i] + ySpeed[i] * ySpeed[i]);
+        xSpeed[i] = totalSpeed * Math.sin(bounceAngle);
+        ySpeed[i] = -totalSpeed * Math.cos(bounceAngle);
+    }
+
+    /**
+     * Calculates the bounce angle from paddle based on hit position.
+     */
+    private double getBounceAngle(int i) {
+        double surfaceCenter = paddle.getX() + paddle.getWidth() / 2.0;
+        double ballCenter = x[i] + diameter / 2.0;
+
+        // Calculate how much from the paddle center the ball has hit (-1.0 to 1.0)
+        double relativeIntersect = (ballCenter - surfaceCenter) / (paddle.getWidth() / 2.0);
+
+        // Clamp to [-1.0, 1.0]
+        relativeIntersect = Math.max(-1.0, Math.min(1.0, relativeIntersect));
+
+        // Max angle of reflection: 65deg (in radians)
+        double maxBounceAngle = Math.toRadians(65);
+        return relativeIntersect * maxBounceAngle;
+    }
+
+    // Last ball drained - decrease lives (game over at 0) and serve a new ball
+    private void loseLife() {
+        model.getEventListener().onBallLost();
+        model.setLives(model.getLives() - 1);
+        if (model.getLives() <= 0) { model.stopGame(); }
+        serve();
+    }
+}
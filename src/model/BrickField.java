@@ -0,0 +1,217 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Brick storage as parallel primitive arrays (struct of arrays).
+ * A brick is identified by its index; destroyed bricks are tombstoned by clearing
+ * their bit in the alive set, so indices stay stable and nothing is shifted or allocated
+ * while playing. The optional BrickGrid is kept in sync when a brick is destroyed.
+ * Every hit is appended to a change log, so renderers can redraw only the bricks
+ * that changed since they last looked. A rewind restores an earlier state by appending
+ * entries that cancel the net change since then, so the log is never rewritten under a reader.
+ */
+public class BrickField {
+    private static final int PALETTE_SIZE = 64; // Number of distinct brick colors
+    private static final int[] PALETTE = createPalette(); // Shared brick colors as 0xRRGGBB (indexed by colorIndex)
+
+    private int count = 0; // Number of bricks ever added (alive or destroyed)
+    private int aliveCount = 0; // Number of bricks still alive
+
+    private int[] x; // X coordinates
+    private int[] y; // Y coordinates
+    private int[] width; // Brick widths
+    private int[] height; // Brick heights
+    private byte[] durability; // Hits remaining before destruction
+    private byte[] initialDurability; // How many hits the brick could take (1, 2, or 3)
+    private byte[] colorIndex; // Index into the color palette
+    private long[] alive; // Bit set of alive bricks
+
+    private BrickGrid grid; // Spatial index (null until buildGrid is called)
+
+    private int[] changeLog; // Changes in order: index of a hit brick, or ~index of a hit undone (room for every possible hit)
+    private int totalDurability = 0; // Sum of initial durabilities = max number of hits
+    private int hits = 0; // Hits currently applied (hits minus hits undone)
+    private volatile int changeCount = 0; // Number of entries in the change log (published after the entry)
+    private int[] netChange = new int[0]; // Rewind scratch: durability change per brick since the restored state
+
+    // BrickField constructor with initial capacity
+    public BrickField(int capacity) {
+        capacity = Math.max(1, capacity);
+        x = new int[capacity];
+        y = new int[capacity];
+        width = new int[capacity];
+        height = new int[capacity];
+        durability = new byte[capacity];
+        initialDurability = new byte[capacity];
+        colorIndex = new byte[capacity];
+        alive = new long[(capacity + 63) >>> 6];
+        changeLog = new int[capacity];
+    }
+
+    // Generates the shared palette once (random colors like the original per-brick colors)
+    private static int[] createPalette() {
+        Random rand = new Random(PALETTE_SIZE);
+        int[] palette = new int[PALETTE_SIZE];
+        for (int i = 0; i < PALETTE_SIZE; i++) {
+            palette[i] = (rand.nextInt(1, 256) << 16) | (rand.nextInt(1, 256) << 8) | rand.nextInt(1, 256);
+        }
+        return palette;
+    }
+
+    // Returns the number of palette colors to choose from
+    public static int getPaletteSize() { return PALETTE_SIZE; }
+
+    // Returns a palette color as 0xRRGGBB
+    public static int getPaletteColor(int index) { return PALETTE[index]; }
+
+    // Adds a brick and returns its index
+    public int add(int brickX, int brickY, int brickWidth, int brickHeight, int destruction, int color) {
+        if (count == x.length) { grow(); }
+        int i = count++;
+        x[i] = brickX;
+        y[i] = brickY;
+        width[i] = brickWidth;
+        height[i] = brickHeight;
+        durability[i] = (byte) destruction;
+        initialDurability[i] = (byte) destruction;
+        colorIndex[i] = (byte) Math.floorMod(color, PALETTE_SIZE);
+        alive[i >>> 6] |= 1L << i;
+        aliveCount++;
+        totalDurability += destruction;
+        if (totalDurability > changeLog.length) { changeLog = Arrays.copyOf(changeLog, Math.max(totalDurability, changeLog.length * 2)); }
+        if (grid != null) { grid.add(i); }
+        return i;
+    }
+
+    // Doubles the capacity of all arrays (only while building a level)
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        durability = Arrays.copyOf(durability, capacity);
+        initialDurability = Arrays.copyOf(initialDurability, capacity);
+        colorIndex = Arrays.copyOf(colorIndex, capacity);
+        alive = Arrays.copyOf(alive, (capacity + 63) >>> 6);
+    }
+
+    // Builds the spatial index over the current bricks
+    public void buildGrid(double worldWidth, double worldHeight, double cellWidth, double cellHeight) {
+        grid = new BrickGrid(this, worldWidth, worldHeight, cellWidth, cellHeight);
+        for (int i = nextAlive(0); i >= 0; i = nextAlive(i + 1)) { grid.add(i); }
+    }
+
+    public BrickGrid getGrid() { return grid; }
+
+    public int getCount() { return count; }
+    public int getAliveCount() { return aliveCount; }
+    public int getX(int i) { return x[i]; }
+    public int getY(int i) { return y[i]; }
+    public int getWidth(int i) { return width[i]; }
+    public int getHeight(int i) { return height[i]; }
+    public int getDurability(int i) { return durability[i]; }
+    public int getInitialDurability(int i) { return initialDurability[i]; }
+    public int getColorIndex(int i) { return colorIndex[i]; }
+
+    // Number of hits recorded in the change log
+    public int getChangeCount() { return changeCount; }
+
+    // Index of the brick changed by the given log entry (0 <= change < getChangeCount())
+    public int getChangedBrick(int change) {
+        int entry = changeLog[change];
+        return entry >= 0 ? entry : ~entry;
+    }
+
+    // Durability change made by the given log entry: -1 for a hit, +1 for a hit undone by a rewind
+    public int getChangeDelta(int change) { return changeLog[change] >= 0 ? -1 : 1; }
+
+    /**
+     * Restores the field as it was when the change log held 'changes' entries.
+     * The net change of every brick since then is cancelled by appending opposite entries
+     * (only the net change, so rewinding to the same point again doesn't grow the log twice as long).
+     * Destroyed bricks come back to life and return to the grid.
+     */
+    public void rewindTo(int changes) {
+        int end = changeCount;
+        if (changes >= end) { return; }
+        if (netChange.length < count) { netChange = new int[count]; }
+        for (int c = changes; c < end; c++) { netChange[getChangedBrick(c)] += getChangeDelta(c); }
+
+        ensureLogCapacity(end + (end - changes));
+        int next = end;
+        for (int c = changes; c < end; c++) {
+            int i = getChangedBrick(c);
+            int delta = netChange[i];
+            netChange[i] = 0; // Later entries of the same brick are already covered
+            for (; delta < 0; delta++) {
+                restore(i);
+                changeLog[next++] = ~i;
+            }
+            for (; delta > 0; delta--) {
+                damage(i);
+                changeLog[next++] = i;
+            }
+        }
+        changeCount = next; // Volatile write publishes the entries to other threads
+        ensureLogCapacity(next + totalDurability - hits); // Room for every hit still possible
+    }
+
+    // Grows the change log to hold at least the given number of entries (only after a rewind)
+    private void ensureLogCapacity(int entries) {
+        if (entries > changeLog.length) { changeLog = Arrays.copyOf(changeLog, Math.max(entries, changeLog.length * 2)); }
+    }
+
+    // Takes one hit back, bringing a destroyed brick back to life
+    private void restore(int i) {
+        hits--;
+        if (durability[i]++ == 0) {
+            alive[i >>> 6] |= 1L << i;
+            aliveCount++;
+            if (grid != null) { grid.add(i); }
+        }
+    }
+
+    // Applies one hit, tombstoning the brick if it was the last; returns true if it was destroyed
+    private boolean damage(int i) {
+        hits++;
+        if (--durability[i] > 0) { return false; }
+
+        alive[i >>> 6] &= ~(1L << i);
+        aliveCount--;
+        if (grid != null) { grid.remove(i); }
+        return true;
+    }
+
+    // Returns true if the brick has hits remaining
+    public boolean isAlive(int i) { return (alive[i >>> 6] & (1L << i)) != 0; }
+
+    // Returns the index of the first alive brick at or after 'from', or -1 if there is none
+    public int nextAlive(int from) {
+        if (from >= count) { return -1; }
+        int word = from >>> 6;
+        long bits = alive[word] & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                int i = (word << 6) + Long.numberOfTrailingZeros(bits);
+                return i < count ? i : -1;
+            }
+            if (++word == alive.length) { return -1; }
+            bits = alive[word];
+        }
+    }
+
+    /**
+     * Decreases durability of the brick by 1.
+     * Returns true if the hit destroyed it (the brick is then tombstoned and removed from the grid).
+     */
+    public boolean hit(int i) {
+        if (!isAlive(i)) { return false; }
+        int changes = changeCount;
+        changeLog[changes] = i;
+        changeCount = changes + 1; // Volatile write publishes the entry to other threads
+        return damage(i);
+    }
+}
@@ -0,0 +1,114 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid index over the brick field (broadphase for ball-brick collisions).
+ * Each cell keeps the indices of bricks whose bounds overlap it, so a query only touches
+ * the few cells covered by the ball instead of every brick on the map.
+ * Destroyed bricks are removed in place from the cells they occupy.
+ */
+public class BrickGrid {
+    private final int columns; // Number of cells horizontally
+    private final int rows; // Number of cells vertically
+    private final double cellWidth; // Width of a single cell
+    private final double cellHeight; // Height of a single cell
+
+    private final BrickField field; // Indexed bricks
+    private final int[][] cells; // Brick indices stored per cell
+    private final int[] cellCounts; // Number of bricks in each cell
+
+    private int[] results = new int[16]; // Reusable buffer with the last query results
+    private int[] stamps = new int[16]; // Last query that collected each brick
+    private int queryStamp = 0; // Current query number (never 0 while stamps hold old values)
+
+    // BrickGrid constructor (world size and cell size in pixels)
+    public BrickGrid(BrickField field, double worldWidth, double worldHeight, double cellWidth, double cellHeight) {
+        this.field = field;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.columns = Math.max(1, (int) Math.ceil(worldWidth / cellWidth));
+        this.rows = Math.max(1, (int) Math.ceil(worldHeight / cellHeight));
+        this.cells = new int[columns * rows][];
+        this.cellCounts = new int[columns * rows];
+    }
+
+    // Adds a brick to every cell its bounds overlap
+    public void add(int brick) {
+        if (brick >= stamps.length) { stamps = Arrays.copyOf(stamps, Math.max(brick + 1, stamps.length * 2)); }
+        int minCol = column(field.getX(brick)), maxCol = column(field.getX(brick) + field.getWidth(brick));
+        int minRow = row(field.getY(brick)), maxRow = row(field.getY(brick) + field.getHeight(brick));
+
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                int cell = r * columns + c;
+                int[] bucket = cells[cell];
+                if (bucket == null) {
+                    bucket = cells[cell] = new int[4];
+                } else if (cellCounts[cell] == bucket.length) {
+                    bucket = cells[cell] = Arrays.copyOf(bucket, bucket.length * 2);
+                }
+                bucket[cellCounts[cell]++] = brick;
+            }
+        }
+    }
+
+    // Removes a brick from the cells it occupies (swap with the last entry, no shifting)
+    public void remove(int brick) {
+        int minCol = column(field.getX(brick)), maxCol = column(field.getX(brick) + field.getWidth(brick));
+        int minRow = row(field.getY(brick)), maxRow = row(field.getY(brick) + field.getHeight(brick));
+
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                int cell = r * columns + c;
+                int[] bucket = cells[cell];
+                for (int i = 0; i < cellCounts[cell]; i++) {
+                    if (bucket[i] == brick) {
+                        bucket[i] = bucket[--cellCounts[cell]];
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects bricks from all cells overlapped by the given bounds.
+     * Returns the number of candidates, available through getResult().
+     * Each brick is reported once even if it spans several cells.
+     */
+    public int query(double x, double y, double width, double height) {
+        int minCol = column(x), maxCol = column(x + width);
+        int minRow = row(y), maxRow = row(y + height);
+        int stamp = ++queryStamp;
+        if (stamp == 0) { // Counter wrapped (long soak runs): old stamps would match new queries
+            Arrays.fill(stamps, 0);
+            stamp = queryStamp = 1;
+        }
+        int count = 0;
+
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                int cell = r * columns + c;
+                int[] bucket = cells[cell];
+                for (int i = 0; i < cellCounts[cell]; i++) {
+                    int brick = bucket[i];
+                    if (stamps[brick] == stamp) { continue; } // Already collected from another cell
+                    stamps[brick] = stamp;
+                    if (count == results.length) { results = Arrays.copyOf(results, count * 2); }
+                    results[count++] = brick;
+                }
+            }
+        }
+        return count;
+    }
+
+    // Returns the index of a brick found by the last query
+    public int getResult(int index) { return results[index]; }
+
+    // Converts X coordinate to a clamped cell column
+    private int column(double x) { return Math.max(0, Math.min(columns - 1, (int) (x / cellWidth))); }
+
+    // Converts Y coordinate to a clamped cell row
+    private int row(double y) { return Math.max(0, Math.min(rows - 1, (int) (y / cellHeight))); }
+}
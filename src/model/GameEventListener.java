@@ -0,0 +1,16 @@
+package model;
+
+/**
+ * Receives gameplay events from the simulation (e.g. to play sounds).
+ * Keeps the model free of audio and UI dependencies; all methods default to no-op.
+ */
+public interface GameEventListener {
+    // Ball bounced off the paddle
+    default void onPaddleHit() {}
+
+    // Ball hit a brick (destroyed = the hit removed it)
+    default void onBrickHit(boolean destroyed) {}
+
+    // Last ball in play fell below the paddle (a life is lost)
+    default void onBallLost() {}
+}
@@ -1,14 +1,11 @@
 package model;
 
-import java.awt.GraphicsDevice;
-import java.awt.GraphicsEnvironment;
-import java.awt.DisplayMode;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -16,18 +13,27 @@ public class GameModel {
     /**
      * MODELS
      */
-    private Ball ball; // Stores Ball data
-    private List<Brick> bricks; // Stores Brick data
+    private BallPool balls; // Stores Ball data
+    private BrickField bricks; // Stores Brick data
     private Paddle paddle; // Stores Paddle data
+    private GameEventListener eventListener = new GameEventListener() {}; // Receives gameplay events (sounds etc.)
+    private InputRecorder inputRecorder; // Records per-tick input for replays (null = not recording)
+    private RewindBuffer rewindBuffer; // Recent history for rewinding (null = rewind disabled)
+    private TickProfiler tickProfiler; // Receives tick phase timings (null = not measured)
+    private final SnapshotExchange snapshots = new SnapshotExchange(); // Frames handed to the renderer
 
     /**
      * GAME PARAMETERS
      */
     private boolean isGameRunning = false; // Current game state (running or not)
-    private boolean gamePaused = false; // Game pause state
+    private volatile boolean gamePaused = false; // Game pause state (set from the EDT)
     private boolean levelCompleted = false; // Is current level completed
     private final Map<String, Integer> unlockedLevels = new HashMap<>(); // Stores unlocked levels per difficulty
-    private int refreshRate; // Refresh rate in milliseconds
+    private int refreshRate = DEFAULT_REFRESH_RATE; // Display refresh rate in Hz (used only for rendering)
+    private int tickRate = DEFAULT_TICK_RATE; // Simulation steps per second
+    private boolean tickClock = false; // Render blend follows the real time of the newest tick
+    private long tickTime; // Real time the newest tick's state belongs to (System.nanoTime)
+    private double interpolation = 0.0; // Render blend between previous and current tick while the clock is stopped
     private int score = 0; // Player score
     private int maxScore = 0; // Maximum score reached
     private int lives = 3; // Number of lives
@@ -35,90 +41,241 @@ public class GameModel {
     private int LEVEL = 1; // Current game level
     private String DIFFICULTY = "EASY"; // Current game difficulty
     private boolean endlessModeActivated = false; // Endless mode status
+    private int wave = 0; // Endless mode wave being played (0 = a level of the level pack)
+    private final WaveGenerator waves = new WaveGenerator(); // Builds the next endless wave in the background
+    private boolean wavePreparation = false; // Build waves ahead of time (interactive play; headless runs build them when needed)
+    private long seed = System.nanoTime(); // Seed of the map generator (brick colors)
+    private LevelPack levelPack = LevelPack.builtIn(); // Levels that can be played
+    private final ProgressWriter progressWriter; // Saves progress in the background (null = progress not persisted)
 
     /**
-     * GAME WINDOW PARAMETERS
+     * PLAYER INPUT (drained from a queue once per tick, so a recorded input log replays exactly)
+     * A tick input holds INPUT_* bits; with sub-tick input the bits INPUT_LEFT_AMOUNT_SHIFT and
+     * INPUT_RIGHT_AMOUNT_SHIFT hold how much of the tick (1-255 of 256, 0 = all of it) a direction was held.
      */
-    private static final int GAME_WINDOW_WIDTH = 800; // Width of game window
-    private static final int GAME_WINDOW_HEIGHT = 800; // Height of game window
+    public static final int INPUT_LEFT = 1; // Paddle moves left
+    public static final int INPUT_RIGHT = 2; // Paddle moves right
+    public static final int INPUT_LAUNCH = 4; // Ball waiting on the paddle is launched
+    public static final int INPUT_LEFT_AMOUNT_SHIFT = 8; // Part of the tick the left key was held
+    public static final int INPUT_RIGHT_AMOUNT_SHIFT = 16; // Part of the tick the right key was held
+    private static final int EVENT_PRESS = 0x10; // Queued event: directions in the low bits pressed
+    private static final int EVENT_RELEASE = 0x20; // Queued event: directions in the low bits released
+    private static final int EVENT_LAUNCH = INPUT_LAUNCH; // Queued event: launch pressed
+    private static final int INPUT_QUEUE_CAPACITY = 256; // Events between two ticks (far more than a keyboard sends)
+
+    private final InputQueue inputQueue = new InputQueue(INPUT_QUEUE_CAPACITY); // Input thread -> simulation thread
+    private volatile int heldInput = 0; // Directions held according to the input thread (resync after overflow)
+    private volatile boolean inputOverflow = false; // An event didn't fit into the queue
+    private boolean subTickInput = false; // Scale paddle travel by how long keys were held within a tick
+    private int tickHeld = 0; // Directions held according to the drained events (simulation thread)
+    private long inputWindowEnd = 0; // Time up to which input has been drained (System.nanoTime)
+    private final long[] heldSince = new long[2]; // Press time of each held direction within the current window
+    private final long[] heldNanos = new long[2]; // Time each direction was held within the current window
+    private long tickNumber = 0; // Ticks since the current map was generated
+
+    /**
+     * LOGICAL FIELD PARAMETERS
+     * The simulation runs in these fixed coordinates whatever the window size; the view scales them.
+     * The game was designed for an 800x800 window including its frame: brick layouts use the whole
+     * 800x800, while the walls and the visible part follow the content area left inside the frame.
+     * The view is what ScaledOutput letterboxes; MapGenerator places the paddle relative to its bottom.
+     */
+    public static final int FIELD_WIDTH = 800; // Width brick layouts are computed for
+    public static final int FIELD_HEIGHT = 800; // Height brick layouts are computed for
+    private static final int FRAME_WIDTH = 15; // Left and right window borders of the original 800x800 window
+    private static final int FRAME_HEIGHT = 35; // Title bar and bottom border of the original 800x800 window
+    public static final int RIGHT_WALL = FIELD_WIDTH - FRAME_WIDTH; // Right border of the playing field (balls bounce, the paddle stops) - 785
+    public static final int VIEW_WIDTH = RIGHT_WALL; // Part of the field shown on screen: up to the right wall
+    public static final int VIEW_HEIGHT = FIELD_HEIGHT - FRAME_HEIGHT; // 765 (balls are lost below the paddle, before this)
+
+    /**
+     * SIMULATION PARAMETERS
+     */
+    private static final int DEFAULT_REFRESH_RATE = 60; // Used until the view reports the real display rate
+    private static final int DEFAULT_TICK_RATE = 120; // Default fixed simulation rate (ticks per second)
+    private static final int REFERENCE_RATE = 144; // Rate at which the per-frame speeds were originally tuned
+    private static final int REWIND_SECONDS = 30; // Game time kept for rewinding
+    private static final int REWIND_KEYFRAME_BYTES = 960 * 1024; // Keyframe memory (with inputs and index below 1 MB)
+    private static final GameEventListener SILENT = new GameEventListener() {}; // Mutes events while re-simulating
 
     // File path for saving progress
     private static final String PROGRESS_FILE = "progress.properties";
 
-    // Initialize game model
-    public GameModel() {
-        // Get the screen refresh rate
-        GraphicsDevice gd = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice();
-        refreshRate = gd.getDisplayMode().getRefreshRate();
-        if (refreshRate == DisplayMode.REFRESH_RATE_UNKNOWN) {
-            refreshRate = 60; // Default to 60 FPS
-        }
+    // Initialize game model with saved progress
+    public GameModel() { this(true); }
 
+    /**
+     * Initialize game model.
+     * The model has no display or audio dependencies, so headless simulations
+     * (tests, benchmarks) can create it with persistProgress = false.
+     */
+    public GameModel(boolean persistProgress) {
         // Initialize unlocked levels states
         unlockedLevels.put("EASY", 1);
         unlockedLevels.put("MEDIUM", 1);
         unlockedLevels.put("HARD", 1);
 
-        loadProgress(); // Load saved progress
+        if (persistProgress) {
+            loadProgress(); // Load saved progress
+            progressWriter = new ProgressWriter(Path.of(PROGRESS_FILE));
+        } else {
+            progressWriter = null;
+        }
     }
 
     public int getRefreshRate() { return refreshRate; }
 
-    public void setRefreshRate(int refreshRate) { this.refreshRate = refreshRate; }
+    // Sets the display refresh rate reported by the view (unknown rates fall back to the default)
+    public void setRefreshRate(int refreshRate) { this.refreshRate = refreshRate > 0 ? refreshRate : DEFAULT_REFRESH_RATE; }
+
+    public GameEventListener getEventListener() { return eventListener; }
 
-    // Calculate speed adjusted for screen refresh rate
-    public int setSpeed(int baseSpeed) {
-        int refreshRate = getRefreshRate();
-        if (refreshRate <= 0) { setRefreshRate(60); } // Default to 60 FPS if refresh rate is unknown
+    public void setEventListener(GameEventListener eventListener) { this.eventListener = eventListener; }
+
+    // Starts recording input for replays (null stops recording)
+    public void setInputRecorder(InputRecorder inputRecorder) { this.inputRecorder = inputRecorder; }
+
+    /**
+     * Starts keeping the last REWIND_SECONDS of game time for rewind().
+     * Memory is allocated here and stays fixed until the tick rate changes.
+     */
+    public void enableRewind() {
+        rewindBuffer = new RewindBuffer(REWIND_SECONDS * tickRate, REWIND_KEYFRAME_BYTES);
+        rewindBuffer.clear();
+    }
+
+    // Sets the receiver of tick phase timings (null disables timing)
+    public void setTickProfiler(TickProfiler tickProfiler) { this.tickProfiler = tickProfiler; }
+
+    public int getTickRate() { return tickRate; }
+
+    /**
+     * Changes the fixed simulation rate; physics speeds are in units per second so gameplay speed stays the same.
+     * An enabled rewind history is sized again for the new rate (and starts empty), so it always holds
+     * REWIND_SECONDS, whether rewind was enabled before or after the rate was set.
+     */
+    public void setTickRate(int tickRate) {
+        if (tickRate <= 0) { throw new IllegalArgumentException("Tick rate must be positive: " + tickRate); }
+        boolean changed = tickRate != this.tickRate;
+        this.tickRate = tickRate;
+        if (changed && rewindBuffer != null) { enableRewind(); }
+    }
+
+    // Duration of one simulation step in seconds
+    public double getTickDuration() { return 1.0 / tickRate; }
+
+    // Duration of one simulation step in nanoseconds
+    public long getTickNanos() { return 1_000_000_000L / tickRate; }
+
+    /**
+     * Sets the real time the newest tick's state belongs to (simulation thread, before publishing).
+     * The renderer blends moving objects from the previous tick towards it by the time it draws.
+     */
+    public void setTickTime(long time) {
+        tickTime = time;
+        tickClock = true;
+    }
 
-        // Calculate speed based on refresh rate
-        // 240Hz ~ 1 pixel per frame; 165Hz ~ 2; 144Hz ~ 3; 120Hz ~ 3; 60Hz ~ 7;
-        return baseSpeed + Math.max(1, (int) (3.0 * 144 / refreshRate));
+    // Stops the render clock, keeping moving objects where a frame drawn at 'now' shows them (pause)
+    public void stopTickClock(long now) {
+        if (!tickClock) { return; }
+        interpolation = RenderSnapshot.blend(now, tickTime, getTickNanos());
+        tickClock = false;
     }
 
+    public boolean isTickClockRunning() { return tickClock; }
+    public long getTickTime() { return tickTime; }
+
+    // Blend factor (0.0 - 1.0) between the previous and the current tick while the render clock is stopped
+    public double getInterpolation() { return interpolation; }
+
+    // Publishes the current state for the renderer (call from the simulation thread after ticking)
+    public void publishSnapshot() { snapshots.publish(this); }
+
+    // Returns the newest published state (call from the render thread only)
+    public RenderSnapshot acquireSnapshot() { return snapshots.acquire(); }
+
+    /**
+     * Converts a base speed into pixels per second.
+     * Speeds used to be "pixels per frame" at 144Hz, so the same feel is kept
+     * while the movement no longer depends on the display refresh rate.
+     */
+    public double getSpeed(int baseSpeed) { return (baseSpeed + 3.0) * REFERENCE_RATE; }
+
     public boolean isGameRunning() { return isGameRunning; }
 
     public boolean gamePaused() { return gamePaused; }
 
     public void setGamePaused(boolean gamePaused) { this.gamePaused = gamePaused; }
 
-    public Ball getBall() { return ball; }
+    public BallPool getBalls() { return balls; }
 
-    public List<Brick> getBricks() { return bricks; }
+    public BrickField getBricks() { return bricks; }
 
     public Paddle getPaddle() { return paddle; }
 
-    public int getGameWindowWidth() { return GAME_WINDOW_WIDTH; }
+    public int getFieldWidth() { return FIELD_WIDTH; }
+
+    public int getFieldHeight() { return FIELD_HEIGHT; }
 
-    public int getGameWindowHeight() { return GAME_WINDOW_HEIGHT; }
+    public int getViewWidth() { return VIEW_WIDTH; }
+
+    public int getViewHeight() { return VIEW_HEIGHT; }
 
     public int getLEVEL() { return LEVEL; }
 
     public void setLEVEL(int level) { this.LEVEL = level; }
 
+    public String getDIFFICULTY() { return DIFFICULTY; }
+
     public void setDIFFICULTY(String difficulty) { this.DIFFICULTY = difficulty; }
 
+    public long getSeed() { return seed; }
+
+    public LevelPack getLevelPack() { return levelPack; }
+
+    // Replaces the playable levels (e.g. a custom level pack)
+    public void setLevelPack(LevelPack levelPack) {
+        if (levelPack.getLevelCount() == 0) { throw new IllegalArgumentException("Level pack contains no levels"); }
+        this.levelPack = levelPack;
+    }
+
+    // Number of levels of the current difficulty
+    public int getLevelCount() { return levelPack.getLevelCount(DIFFICULTY); }
+
+    // Sets the seed used by the following map generations
+    public void setSeed(long seed) { this.seed = seed; }
+
     // Starts or restart the level
     public void startGame() {
         isGameRunning = true;
         levelCompleted = false;
 
-        // Generate map elements(Ball, Paddle, List<Brick>) depends on level and difficulty
+        // Generate map elements(BallPool, Paddle, BrickField) depends on level and difficulty
         MapGenerator mapGenerator = new MapGenerator(LEVEL, DIFFICULTY, this);
         this.paddle = mapGenerator.getPaddle();
         this.bricks = mapGenerator.getBricks();
-        this.ball = mapGenerator.getBall();
-        this.totalBricks = bricks.size();
+        this.balls = mapGenerator.getBalls();
+        this.totalBricks = bricks.getAliveCount();
 
         setScore(0);
+        newMap();
+        if (inputRecorder != null) { inputRecorder.onGameStarted(); }
+
+        // Endless mode follows the last level: build its first wave while the level is played
+        wave = 0;
+        if (wavePreparation && LEVEL >= getLevelCount()) {
+            waves.prepare(1, DIFFICULTY, seed, this);
+        } else {
+            waves.cancel();
+        }
     }
 
     // Reset current game (used after losing a life)
     public void renewGame() {
         int prevLives = getLives();
 
-        // Reset ball position and game state
-        ball.reset();
+        // Reset balls, bricks and game state
         startGame();
         setLives(prevLives == 0 ? 3 : prevLives);
         setScore(0);
@@ -126,6 +283,187 @@ public class GameModel {
 
     public void stopGame() { isGameRunning = false; }
 
+    // Paddle direction held by the player (called from the input thread, applied on the next tick)
+    public void setMovingLeft(boolean moving) { queueDirection(INPUT_LEFT, moving); }
+
+    public void setMovingRight(boolean moving) { queueDirection(INPUT_RIGHT, moving); }
+
+    // Launches the ball on the next tick (called from the input thread)
+    public void requestLaunch() { queueInput(EVENT_LAUNCH); }
+
+    // Forgets held directions (e.g. key releases missed while a dialog had focus)
+    public void releaseInput() {
+        heldInput = 0;
+        queueInput(EVENT_RELEASE | INPUT_LEFT | INPUT_RIGHT);
+    }
+
+    /**
+     * Sets whether endless waves are built on the background thread ahead of time (default: off).
+     * Only worth it when wave changes must not stall a displayed game; headless and parallel
+     * runs build each wave when it starts, so no shared thread competes with them.
+     */
+    public void setWavePreparation(boolean wavePreparation) {
+        this.wavePreparation = wavePreparation;
+        if (!wavePreparation) { waves.cancel(); }
+    }
+
+    // Sets whether paddle travel follows key press and release times within a tick (default: whole ticks)
+    public void setSubTickInput(boolean subTickInput) { this.subTickInput = subTickInput; }
+
+    private void queueDirection(int direction, boolean pressed) {
+        heldInput = pressed ? heldInput | direction : heldInput & ~direction;
+        queueInput((pressed ? EVENT_PRESS : EVENT_RELEASE) | direction);
+    }
+
+    private void queueInput(int event) {
+        if (!inputQueue.offer(event, System.nanoTime())) { inputOverflow = true; } // Next tick falls back to heldInput
+    }
+
+    // Advances the simulation by one fixed step with the input that has arrived so far
+    public void tick() { tickAt(System.nanoTime()); }
+
+    /**
+     * Advances the simulation by one fixed step, applying the player input queued before
+     * inputTime (System.nanoTime, the end of this step in real time). Later events stay
+     * queued for the following step.
+     */
+    public void tickAt(long inputTime) { tick(drainInput(inputTime)); }
+
+    /**
+     * Turns the events queued before the given time into the input of one tick.
+     * A key pressed and released within the tick still counts, so short taps are never lost.
+     */
+    private int drainInput(long end) {
+        long start = Math.max(Math.min(inputWindowEnd, end), end - getTickNanos());
+        inputWindowEnd = end;
+
+        int input = 0, touched = 0;
+        for (int d = 0; d < 2; d++) {
+            heldSince[d] = start;
+            heldNanos[d] = 0;
+        }
+        for (long time = inputQueue.peekTime(); time < end; time = inputQueue.peekTime()) {
+            long at = Math.max(time, start); // Events from before the window (e.g. while paused) count from its start
+            int event = inputQueue.poll();
+            if (event == EVENT_LAUNCH) {
+                input |= INPUT_LAUNCH;
+                continue;
+            }
+            for (int d = 0; d < 2; d++) {
+                int direction = 1 << d;
+                if ((event & direction) == 0) { continue; }
+                if ((event & EVENT_PRESS) != 0 && (tickHeld & direction) == 0) {
+                    tickHeld |= direction;
+                    heldSince[d] = at;
+                } else if ((event & EVENT_RELEASE) != 0 && (tickHeld & direction) != 0) {
+                    tickHeld &= ~direction;
+                    heldNanos[d] += at - heldSince[d];
+                    touched |= direction;
+                }
+            }
+        }
+        if (inputOverflow && inputQueue.peekTime() == Long.MAX_VALUE) { // All events that fit are drained
+            inputOverflow = false;
+            tickHeld = heldInput;
+        }
+
+        long span = end - start;
+        for (int d = 0; d < 2; d++) {
+            int direction = 1 << d;
+            if ((tickHeld & direction) != 0) { heldNanos[d] += end - heldSince[d]; }
+            if ((tickHeld & direction) == 0 && (touched & direction) == 0) { continue; }
+            input |= direction;
+            if (subTickInput && span > 0 && heldNanos[d] < span) {
+                int amount = (int) Math.max(1, Math.min(255, Math.round(heldNanos[d] * 256.0 / span)));
+                input |= amount << (d == 0 ? INPUT_LEFT_AMOUNT_SHIFT : INPUT_RIGHT_AMOUNT_SHIFT);
+            }
+        }
+        return input;
+    }
+
+    /**
+     * Advances the simulation by one fixed step with the given input (INPUT_* bits).
+     * Used directly by replays and simulations.
+     */
+    public void tick(int input) {
+        if (inputRecorder != null) { inputRecorder.onTick(this, input); }
+        if (rewindBuffer != null) { rewindBuffer.record(this, tickNumber, input); }
+        tickNumber++;
+        step(input, tickProfiler);
+    }
+
+    // Re-simulates a tick from the rewind history (not recorded again, and not profiled: it isn't a new tick)
+    void replayTick(int input) { step(input, null); }
+
+    // Applies the input and advances the simulation by one fixed step, reporting its timings to the profiler (if any)
+    private void step(int input, TickProfiler profiler) {
+        paddle.setMovingLeft((input & INPUT_LEFT) != 0);
+        paddle.setMovingRight((input & INPUT_RIGHT) != 0);
+        paddle.setHeldFractions(heldFraction(input, INPUT_LEFT_AMOUNT_SHIFT), heldFraction(input, INPUT_RIGHT_AMOUNT_SHIFT));
+        if ((input & INPUT_LAUNCH) != 0) { balls.start(); }
+
+        double dt = getTickDuration();
+        balls.setCollisionTiming(profiler != null);
+        if (profiler == null) {
+            paddle.move(dt); // Move the paddle
+            balls.step(dt); // Move all balls and resolve their collisions
+            return;
+        }
+
+        long start = System.nanoTime();
+        paddle.move(dt);
+        long paddleDone = System.nanoTime();
+        balls.step(dt);
+        long ballsDone = System.nanoTime();
+        profiler.onTick(paddleDone - start, ballsDone - paddleDone, balls.takeCollisionNanos());
+    }
+
+    // Part of the tick a direction was held (amount 0 = the whole tick)
+    private static double heldFraction(int input, int shift) {
+        int amount = (input >>> shift) & 0xFF;
+        return amount == 0 ? 1.0 : amount / 256.0;
+    }
+
+    /**
+     * Scrubs the game back by the given number of ticks (limited by the kept history).
+     * Sounds are muted while the history is re-simulated.
+     */
+    public void rewind(int ticks) {
+        if (rewindBuffer == null || ticks <= 0) { return; }
+        GameEventListener listener = eventListener;
+        eventListener = SILENT;
+        long restored = rewindBuffer.rewindTo(this, tickNumber - ticks);
+        eventListener = listener;
+        if (restored < 0) { return; } // No history yet
+
+        if (restored < tickNumber && inputRecorder != null) { inputRecorder.onRewind((int) (tickNumber - restored)); }
+        tickNumber = restored;
+    }
+
+    // Bytes written by writeState() for the current state
+    int getStateSize() { return 4 * 4 + 2 + 2 * 8 + balls.getStateSize(); }
+
+    // Writes the state restored by rewinds (bricks are restored through their change log)
+    void writeState(ByteBuffer out) {
+        out.putInt(score).putInt(lives).putInt(totalBricks).putInt(bricks.getChangeCount());
+        out.put((byte) (isGameRunning ? 1 : 0)).put((byte) (levelCompleted ? 1 : 0));
+        out.putDouble(paddle.getX()).putDouble(paddle.getPrevX());
+        balls.writeState(out);
+    }
+
+    // Restores a state written by writeState()
+    void readState(ByteBuffer in) {
+        score = in.getInt();
+        lives = in.getInt();
+        totalBricks = in.getInt();
+        bricks.rewindTo(in.getInt());
+        isGameRunning = in.get() != 0;
+        levelCompleted = in.get() != 0;
+        double x = in.getDouble();
+        paddle.setPosition(x, in.getDouble());
+        balls.readState(in);
+    }
+
     public int getLives() { return lives; }
 
     public void setLives(int lives) { this.lives = lives; }
@@ -154,6 +492,7 @@ public class GameModel {
         if (totalBricks <= 0) {
             levelCompleted = true;
             unlockNextLevel();
+            if (progressWriter != null) { progressWriter.flush(); } // Level completion is written right away
         }
     }
 
@@ -174,22 +513,11 @@ public class GameModel {
 
     public Map<String,Integer> getUnlockedLevels() { return new HashMap<>(unlockedLevels); }
 
-    // Saves progress to a file
+    // Hands progress to the background writer (coalesced, never blocks on file I/O)
     private void saveProgress() {
-        Properties props = new Properties();
-        for (var entry : unlockedLevels.entrySet()) {
-            props.setProperty(entry.getKey(), entry.getValue().toString());
-        }
-        props.setProperty("MAXSCORE", Integer.toString(maxScore));
-
-        try (FileOutputStream fos = new FileOutputStream(PROGRESS_FILE)) {
-            props.store(fos, "BrickBreaker Progress");
-        } catch (IOException e) {
-            System.err.println("Failed to save progress: " + e.getMessage());
-        }
+        if (progressWriter != null) { progressWriter.update(unlockedLevels, maxScore); }
     }
 
-    // Load progress from file
     private void loadProgress() {
         File f = new File(PROGRESS_FILE);
         if (!f.exists()) return; // file does not exist -> we do nothing, default levels are unlocked
@@ -218,21 +546,42 @@ public class GameModel {
         }
     }
 
-    // Reset only bricks, paddle and ball while keeping score and lives
+    /**
+     * Starts the next endless mode wave, keeping score and lives.
+     * The wave was built in the background while the previous one was played, so this
+     * only swaps the new paddle, balls and bricks in and starts building the wave after it.
+     */
     public void resetBricksOnly() {
-        // We re-generate Paddle and Ball and Bricks for the same LEVEL and DIFFICULTY
-        MapGenerator mapGenerator = new MapGenerator(LEVEL, DIFFICULTY, this);
+        wave++;
+        MapGenerator mapGenerator = waves.take(wave, DIFFICULTY, seed, this);
+        if (wavePreparation) { waves.prepare(wave + 1, DIFFICULTY, seed, this); }
+        swapInWave(mapGenerator);
+    }
+
+    // Replaces bricks, paddle and balls with a finished wave map (the game thread's part of a wave change)
+    public void swapInWave(MapGenerator mapGenerator) {
         this.paddle = mapGenerator.getPaddle();
         this.bricks = mapGenerator.getBricks();
-        this.ball = mapGenerator.getBall();
-        this.totalBricks = bricks.size();
+        this.balls = mapGenerator.getBalls();
+        this.totalBricks = bricks.getAliveCount();
         this.levelCompleted = false;
+        newMap();
+        if (inputRecorder != null) { inputRecorder.onBricksReset(); }
+    }
+
+    // Restarts tick counting and history for a newly generated map
+    private void newMap() {
+        tickNumber = 0;
+        if (rewindBuffer != null) { rewindBuffer.clear(); }
     }
 
     public boolean isLevelCompleted() { return levelCompleted; }
 
     public void setLevelCompleted(boolean levelCompleted) { this.levelCompleted = levelCompleted; }
 
+    // Endless mode wave being played (0 = a level of the level pack)
+    public int getWave() { return wave; }
+
     public boolean isEndlessModeActivated() { return endlessModeActivated; }
 
     public void setEndlessModeActivated(boolean endlessModeActivated) { this.endlessModeActivated = endlessModeActivated; }
@@ -0,0 +1,59 @@
+package model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free single-producer/single-consumer ring buffer of timestamped input events.
+ * The input thread offers events as they happen; the simulation thread drains them at
+ * the start of each tick, so input never changes the game in the middle of a step.
+ * Exactly one thread may offer and one thread may poll.
+ */
+public class InputQueue {
+    private final long[] times; // Event times (System.nanoTime)
+    private final int[] events; // Event codes
+    private final int mask; // Capacity - 1 (capacity is a power of two)
+    private final AtomicLong head = new AtomicLong(); // Next slot to read (written by the consumer)
+    private final AtomicLong tail = new AtomicLong(); // Next slot to write (written by the producer)
+    private long cachedHead = 0; // Producer's last view of head (avoids reading the shared counter per offer)
+    private long cachedTail = 0; // Consumer's last view of tail
+
+    // InputQueue constructor (capacity is rounded up to a power of two)
+    public InputQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        times = new long[size];
+        events = new int[size];
+        mask = size - 1;
+    }
+
+    // Adds an event (producer thread); returns false if the queue is full
+    public boolean offer(int event, long nanos) {
+        long t = tail.getPlain();
+        if (t - cachedHead > mask) {
+            cachedHead = head.get();
+            if (t - cachedHead > mask) { return false; }
+        }
+        int slot = (int) t & mask;
+        times[slot] = nanos;
+        events[slot] = event;
+        tail.setRelease(t + 1); // Publishes the slot written above
+        return true;
+    }
+
+    // Time of the oldest event, or Long.MAX_VALUE if the queue is empty (consumer thread)
+    public long peekTime() {
+        long h = head.getPlain();
+        if (h == cachedTail) {
+            cachedTail = tail.getAcquire();
+            if (h == cachedTail) { return Long.MAX_VALUE; }
+        }
+        return times[(int) h & mask];
+    }
+
+    // Removes the oldest event and returns its code; only valid after peekTime() found one (consumer thread)
+    public int poll() {
+        long h = head.getPlain();
+        int event = events[(int) h & mask];
+        head.setRelease(h + 1); // Hands the slot back to the producer
+        return event;
+    }
+}
@@ -0,0 +1,126 @@
+package model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Records a session as a compact binary input log that ReplayPlayer can re-simulate.
+ * The simulation is deterministic for the same map seed, tick rate and per-tick input,
+ * so only those are stored. Inputs are run-length encoded: a tick input that doesn't
+ * change costs nothing until it does. The log is kept in memory and written by save().
+ *
+ * Format (big-endian): int MAGIC, short VERSION, then records:
+ *   START  level:int difficulty:UTF seed:long tickRate:int lives:int
+ *   INPUT  input:varint ticks:varint (the same input for that many ticks; version 1 logs store input as a byte)
+ *   RESET_BRICKS (endless mode regenerated the map)
+ *   REWIND ticks:varint (the game was scrubbed back by that many ticks)
+ */
+public class InputRecorder {
+    static final int MAGIC = 0x4242524C; // "BBRL"
+    static final int VERSION = 2; // 2: input is a varint (sub-tick key timing)
+    static final int OP_START = 1;
+    static final int OP_INPUT = 2;
+    static final int OP_RESET_BRICKS = 3;
+    static final int OP_REWIND = 4;
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+    private final DataOutputStream out = new DataOutputStream(bytes);
+    private int runInput = -1; // Input of the current run (-1 = no run)
+    private int runLength = 0; // Ticks in the current run
+    private boolean startPending = false; // A game was started; its START record is written on its first tick
+
+    // InputRecorder constructor - writes the log header
+    public InputRecorder() {
+        try {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // Memory stream does not throw
+        }
+    }
+
+    /**
+     * A game was started or restarted (called by the model).
+     * The START record is written on the first tick, once the controller has set the lives.
+     */
+    synchronized void onGameStarted() {
+        endRun();
+        startPending = true;
+    }
+
+    // The bricks were regenerated without restarting the game (called by the model)
+    synchronized void onBricksReset() {
+        endRun();
+        if (!startPending) { write(OP_RESET_BRICKS); } // A pending START already covers the new map
+    }
+
+    // The game was rewound by the given number of ticks (called by the model)
+    synchronized void onRewind(int ticks) {
+        endRun();
+        write(OP_REWIND);
+        writeVarint(ticks);
+    }
+
+    // Records the input applied by one tick (called by the model)
+    synchronized void onTick(GameModel model, int input) {
+        if (startPending) {
+            startPending = false;
+            try {
+                out.writeByte(OP_START);
+                out.writeInt(model.getLEVEL());
+                out.writeUTF(model.getDIFFICULTY());
+                out.writeLong(model.getSeed());
+                out.writeInt(model.getTickRate());
+                out.writeInt(model.getLives());
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        if (input != runInput) {
+            endRun();
+            runInput = input;
+        }
+        runLength++;
+    }
+
+    // Writes the log recorded so far to a file
+    public synchronized void save(Path file) throws IOException {
+        endRun();
+        Files.write(file, bytes.toByteArray());
+    }
+
+    // Writes the current input run (if any)
+    private void endRun() {
+        if (runLength == 0) { return; }
+        try {
+            out.writeByte(OP_INPUT);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        writeVarint(runInput);
+        writeVarint(runLength);
+        runLength = 0;
+        runInput = -1;
+    }
+
+    // Writes an unsigned varint (7 bits per byte, low bits first)
+    private void writeVarint(int value) {
+        try {
+            for (; (value & ~0x7F) != 0; value >>>= 7) { out.writeByte((value & 0x7F) | 0x80); }
+            out.writeByte(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void write(int op) {
+        try {
+            out.writeByte(op);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
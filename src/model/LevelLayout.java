@@ -0,0 +1,53 @@
+package model;
+
+/**
+ * A decoded level: a grid of cells, each with a durability (0 = no brick, 1-3 hits)
+ * and a brick type. Grids can have any size; MapGenerator scales bricks to fit the window.
+ */
+public class LevelLayout {
+    public static final int TYPE_NORMAL = 0; // Regular brick (types 1-3 are reserved and played as normal bricks)
+
+    private final int columns;
+    private final int rows;
+    private final byte[] durability; // Per cell, row by row
+    private final byte[] type; // Per cell, row by row
+
+    // LevelLayout constructor (cell arrays are row by row, columns * rows long)
+    public LevelLayout(int columns, int rows, byte[] durability, byte[] type) {
+        if (durability.length != columns * rows || type.length != columns * rows) {
+            throw new IllegalArgumentException("Cell arrays must hold " + columns + "x" + rows + " cells");
+        }
+        this.columns = columns;
+        this.rows = rows;
+        this.durability = durability;
+        this.type = type;
+    }
+
+    // Creates a layout from a 0/1 pattern where every brick gets the same durability
+    public static LevelLayout fromPattern(int[][] pattern, int brickDurability) {
+        int rows = pattern.length, columns = pattern[0].length;
+        byte[] durability = new byte[columns * rows];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                if (pattern[row][col] == 1) { durability[row * columns + col] = (byte) brickDurability; }
+            }
+        }
+        return new LevelLayout(columns, rows, durability, new byte[columns * rows]);
+    }
+
+    public int getColumns() { return columns; }
+    public int getRows() { return rows; }
+
+    // Durability of the brick in a cell (0 = empty)
+    public int getDurability(int col, int row) { return durability[row * columns + col]; }
+
+    // Type of the brick in a cell
+    public int getType(int col, int row) { return type[row * columns + col]; }
+
+    // Number of cells holding a brick
+    public int getBrickCount() {
+        int count = 0;
+        for (byte d : durability) { if (d > 0) { count++; } }
+        return count;
+    }
+}
@@ -0,0 +1,162 @@
+package model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only collection of levels in the binary level-pack format.
+ * Files are memory-mapped: opening a pack reads only the header and checks the index,
+ * the index is searched in place and a level's cells are decoded only when that level is played.
+ * Each difficulty's levels must be numbered 1..count without gaps or duplicates, and every
+ * grid must fit the field (MapGenerator.canLayOut); other packs are rejected when opened.
+ *
+ * Format (big-endian):
+ *   int MAGIC, short VERSION, int level count
+ *   index, one 12-byte entry per level, sorted by difficulty, then level number:
+ *     byte difficulty (0 easy, 1 medium, 2 hard), byte reserved, short level number (from 1),
+ *     short columns, short rows, int offset of the cells from the start of the pack
+ *   cells, row by row, 4 bits per cell (low nibble first):
+ *     bits 0-1 durability (0 = empty), bits 2-3 brick type
+ */
+public class LevelPack {
+    static final int MAGIC = 0x42424C50; // "BBLP"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 4 + 2 + 4;
+    static final int ENTRY_SIZE = 12;
+    static final String[] DIFFICULTIES = {"EASY", "MEDIUM", "HARD"};
+
+    private static LevelPack builtIn; // Levels shipped with the game (created on first use)
+
+    private final ByteBuffer data; // Whole pack (mapped file or memory)
+    private final int levelCount;
+
+    // Wraps pack data after checking the header and the index
+    public LevelPack(ByteBuffer data) throws IOException {
+        this.data = data;
+        if (data.capacity() < HEADER_SIZE || data.getInt(0) != MAGIC) { throw new IOException("Not a level pack"); }
+        int version = data.getShort(4);
+        if (version != VERSION) { throw new IOException("Unsupported level pack version: " + version); }
+        levelCount = data.getInt(6);
+        if (levelCount < 0 || HEADER_SIZE + (long) levelCount * ENTRY_SIZE > data.capacity()) {
+            throw new IOException("Corrupt level pack: index out of bounds");
+        }
+        checkIndex();
+    }
+
+    // Checks the order and numbering of the index entries and that every grid can be laid out
+    private void checkIndex() throws IOException {
+        int difficulty = -1, expected = 1;
+        for (int i = 0; i < levelCount; i++) {
+            int d = entryDifficulty(i), number = entryNumber(i);
+            if (d < 0 || d >= DIFFICULTIES.length || d < difficulty) { throw new IOException("Corrupt level pack: bad difficulty in entry " + i); }
+            if (d != difficulty) {
+                difficulty = d;
+                expected = 1;
+            }
+            if (number != expected) {
+                throw new IOException("Invalid level pack: " + DIFFICULTIES[d] + " level " + number + " found where level " + expected
+                        + " was expected (levels must be numbered 1..count)");
+            }
+            expected++;
+            if (!MapGenerator.canLayOut(getColumns(i), getRows(i))) {
+                throw new IOException("Invalid level pack: " + DIFFICULTIES[d] + " level " + number + " has a grid of "
+                        + getColumns(i) + "x" + getRows(i) + " (at most " + MapGenerator.MAX_COLUMNS + "x" + MapGenerator.MAX_ROWS + ")");
+            }
+        }
+    }
+
+    // Memory-maps a level pack file
+    public static LevelPack open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new LevelPack(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())); // Mapping outlives the channel
+        }
+    }
+
+    // Returns the built-in levels (BrickLayout) encoded in the pack format
+    public static synchronized LevelPack builtIn() {
+        if (builtIn == null) {
+            LevelPackWriter writer = new LevelPackWriter();
+            for (String difficulty : DIFFICULTIES) {
+                for (int level = 1; level <= 3; level++) {
+                    BrickLayout layout = BrickLayout.valueOf("LEVEL_" + level + "_" + difficulty);
+                    writer.add(difficulty, level, LevelLayout.fromPattern(layout.getLayout(), MapGenerator.getBaseDurability(difficulty)));
+                }
+            }
+            try {
+                builtIn = new LevelPack(writer.toByteBuffer());
+            } catch (IOException e) {
+                throw new IllegalStateException(e); // Written by our own writer
+            }
+        }
+        return builtIn;
+    }
+
+    // Index of a difficulty name (case-insensitive), -1 if unknown
+    static int difficultyIndex(String difficulty) {
+        for (int i = 0; i < DIFFICULTIES.length; i++) {
+            if (DIFFICULTIES[i].equalsIgnoreCase(difficulty)) { return i; }
+        }
+        return -1;
+    }
+
+    // Total number of levels in the pack
+    public int getLevelCount() { return levelCount; }
+
+    // Number of levels for a difficulty (levels are numbered 1..count)
+    public int getLevelCount(String difficulty) {
+        int first = lowerBound(difficultyIndex(difficulty), 0);
+        int end = lowerBound(difficultyIndex(difficulty) + 1, 0);
+        return end - first;
+    }
+
+    // Index entry of a level, or -1 if the pack doesn't contain it
+    public int find(String difficulty, int number) {
+        int d = difficultyIndex(difficulty);
+        int i = lowerBound(d, number);
+        return i < levelCount && entryDifficulty(i) == d && entryNumber(i) == number ? i : -1;
+    }
+
+    public int getColumns(int index) { return data.getShort(entry(index) + 4); }
+    public int getRows(int index) { return data.getShort(entry(index) + 6); }
+
+    // Decodes the cells of a level
+    public LevelLayout decode(int index) throws IOException {
+        int columns = getColumns(index), rows = getRows(index);
+        int offset = data.getInt(entry(index) + 8);
+        int cells = columns * rows;
+        if (columns <= 0 || rows <= 0 || offset < 0 || offset + (long) (cells + 1) / 2 > data.capacity()) {
+            throw new IOException("Corrupt level pack: level " + index + " out of bounds");
+        }
+
+        byte[] durability = new byte[cells];
+        byte[] type = new byte[cells];
+        for (int c = 0; c < cells; c++) {
+            int nibble = (data.get(offset + (c >>> 1)) >>> ((c & 1) * 4)) & 0xF;
+            durability[c] = (byte) (nibble & 3);
+            type[c] = (byte) (nibble >>> 2);
+        }
+        return new LevelLayout(columns, rows, durability, type);
+    }
+
+    // First index entry not ordered before (difficulty, number)
+    private int lowerBound(int difficulty, int number) {
+        int low = 0, high = levelCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int d = entryDifficulty(mid);
+            if (d < difficulty || (d == difficulty && entryNumber(mid) < number)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int entry(int index) { return HEADER_SIZE + index * ENTRY_SIZE; }
+    private int entryDifficulty(int index) { return data.get(entry(index)); }
+    private int entryNumber(int index) { return data.getShort(entry(index) + 2) & 0xFFFF; }
+}
@@ -0,0 +1,98 @@
+package model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Builds level packs in the format read by LevelPack.
+ * Run: java -cp out model.LevelPackWriter <file> - writes the built-in levels as a pack file,
+ * a starting point for custom packs.
+ */
+public class LevelPackWriter {
+    private final List<Level> levels = new ArrayList<>();
+
+    // A level waiting to be written
+    private record Level(int difficulty, int number, LevelLayout layout) {}
+
+    // Adds a level (each difficulty's levels must end up numbered 1..count)
+    public void add(String difficulty, int number, LevelLayout layout) {
+        int d = LevelPack.difficultyIndex(difficulty);
+        if (d < 0) { throw new IllegalArgumentException("Unknown difficulty: " + difficulty); }
+        if (number < 1 || number > 0xFFFF) { throw new IllegalArgumentException("Level number out of range: " + number); }
+        if (!MapGenerator.canLayOut(layout.getColumns(), layout.getRows())) {
+            throw new IllegalArgumentException("Level grid can't be laid out: " + layout.getColumns() + "x" + layout.getRows()
+                    + " (at most " + MapGenerator.MAX_COLUMNS + "x" + MapGenerator.MAX_ROWS + ")");
+        }
+        for (Level level : levels) {
+            if (level.difficulty() == d && level.number() == number) { throw new IllegalArgumentException("Duplicate level: " + difficulty + " " + number); }
+        }
+        levels.add(new Level(d, number, layout));
+    }
+
+    // Encodes all added levels; fails if a difficulty's level numbers have gaps
+    public ByteBuffer toByteBuffer() {
+        levels.sort(Comparator.comparingInt(Level::difficulty).thenComparingInt(Level::number));
+        for (int i = 0; i < levels.size(); i++) {
+            Level level = levels.get(i);
+            int expected = i > 0 && levels.get(i - 1).difficulty() == level.difficulty() ? levels.get(i - 1).number() + 1 : 1;
+            if (level.number() != expected) {
+                throw new IllegalStateException("Missing level: " + LevelPack.DIFFICULTIES[level.difficulty()] + " " + expected);
+            }
+        }
+
+        int size = LevelPack.HEADER_SIZE + levels.size() * LevelPack.ENTRY_SIZE;
+        for (Level level : levels) { size += cellBytes(level.layout()); }
+
+        ByteBuffer out = ByteBuffer.allocate(size);
+        out.putInt(LevelPack.MAGIC).putShort((short) LevelPack.VERSION).putInt(levels.size());
+        int offset = LevelPack.HEADER_SIZE + levels.size() * LevelPack.ENTRY_SIZE;
+        for (Level level : levels) {
+            LevelLayout layout = level.layout();
+            out.put((byte) level.difficulty()).put((byte) 0).putShort((short) level.number());
+            out.putShort((short) layout.getColumns()).putShort((short) layout.getRows()).putInt(offset);
+            offset += cellBytes(layout);
+        }
+        for (Level level : levels) {
+            LevelLayout layout = level.layout();
+            byte[] cells = new byte[cellBytes(layout)];
+            for (int row = 0, c = 0; row < layout.getRows(); row++) {
+                for (int col = 0; col < layout.getColumns(); col++, c++) {
+                    int nibble = (layout.getDurability(col, row) & 3) | (layout.getType(col, row) & 3) << 2;
+                    cells[c >>> 1] |= (byte) (nibble << ((c & 1) * 4));
+                }
+            }
+            out.put(cells);
+        }
+        return out.flip();
+    }
+
+    // Writes all added levels to a file
+    public void write(Path file) throws IOException {
+        ByteBuffer data = toByteBuffer();
+        Files.write(file, data.array());
+    }
+
+    // Bytes used by the cells of a level (two cells per byte)
+    private static int cellBytes(LevelLayout layout) { return (layout.getColumns() * layout.getRows() + 1) / 2; }
+
+    // Exports the built-in levels to a pack file
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: LevelPackWriter <file>");
+            System.exit(2);
+        }
+        LevelPack pack = LevelPack.builtIn();
+        LevelPackWriter writer = new LevelPackWriter();
+        for (String difficulty : LevelPack.DIFFICULTIES) {
+            for (int level = 1; level <= pack.getLevelCount(difficulty); level++) {
+                writer.add(difficulty, level, pack.decode(pack.find(difficulty, level)));
+            }
+        }
+        writer.write(Path.of(args[0]));
+    }
+}
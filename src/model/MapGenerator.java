@@ -1,37 +1,62 @@
 package model;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Random;
 
 public class MapGenerator {
-    private final int LEVEL; // Selected game level
+    private final LevelLayout LAYOUT; // Brick cells of the selected level
     private final String DIFFICULTY; // Selected game difficulty
 
+    private final long colorSeed; // Seed of the brick colors
     private final GameModel model;
 
-    private Ball ball; // Ball instance
+    private static final int BALL_CAPACITY = 512; // Max balls in play at once
+    private static final int OFFSET_Y = 50; // Distance of the bricks from the top of the field
+    private static final int PADDING = 5; // Space between bricks (less in cells too small for it)
+    static final int MAX_COLUMNS = GameModel.FIELD_WIDTH - 2 * PADDING; // Grids wider than this leave cells under a pixel
+    static final int MAX_ROWS = (GameModel.FIELD_HEIGHT - OFFSET_Y) / 2; // Bricks fill the upper half of the field
+    private static final int PADDLE_HEIGHT = 15;
+    private static final int PADDLE_Y = GameModel.VIEW_HEIGHT - 50; // Paddle row, 50 pixels above the bottom of the view (715)
+
+    private BallPool balls; // Balls in play
     private Paddle paddle; // Paddle instance
-    private final List<Brick> bricks; // List of bricks
+    private BrickField bricks; // Brick field
 
     public MapGenerator(int level, String difficulty, GameModel gameModel) {
+        this(getLayoutForLevel(gameModel.getLevelPack(), level, difficulty), difficulty, gameModel);
+    }
+
+    // Generates a map for an explicit layout (e.g. benchmarks over every BrickLayout)
+    public MapGenerator(BrickLayout layout, String difficulty, GameModel gameModel) {
+        this(LevelLayout.fromPattern(layout.getLayout(), getBaseDurability(difficulty)), difficulty, gameModel);
+    }
+
+    // Generates a map for a decoded level
+    public MapGenerator(LevelLayout layout, String difficulty, GameModel gameModel) {
+        this(layout, difficulty, gameModel.getSeed(), gameModel);
+    }
+
+    // Generates a map with its own color seed (endless waves, built off the game thread)
+    MapGenerator(LevelLayout layout, String difficulty, long colorSeed, GameModel gameModel) {
         this.model = gameModel;
-        this.LEVEL = level;
+        this.colorSeed = colorSeed;
+        this.LAYOUT = layout;
         this.DIFFICULTY = difficulty.toLowerCase();
-        this.bricks = new ArrayList<>();
 
         generateBricks();
         generatePaddle();
         generateBall();
     }
 
-    // Return Ball instance
-    public Ball getBall() { return ball; }
+    // Return pool of balls
+    public BallPool getBalls() { return balls; }
 
     // Return paddle instance
     public Paddle getPaddle() { return paddle; }
 
-    // Return list of Brick instances
-    public List<Brick> getBricks() { return bricks; }
+    // Return brick field
+    public BrickField getBricks() { return bricks; }
 
     // Generate Ball element on map
     private void generateBall() {
@@ -41,10 +66,8 @@ public class MapGenerator {
         int baseSpeed = 0;
         int diameter = 25;
 
-        // Initialize Ball object
-        double centeredX = paddle.getX() + (paddle.getWidth() / 2.0) - (diameter / 2.0);
-        double centeredY = paddle.getY() - diameter; // correct initial generation of position
-        ball = new Ball(centeredX, centeredY, diameter, model.setSpeed(baseSpeed), model, paddle, bricks);
+        // Initialize ball pool (the first ball is served on the paddle)
+        balls = new BallPool(BALL_CAPACITY, diameter, model.getSpeed(baseSpeed), model, paddle, bricks);
     }
 
     // Generate Paddle element on map
@@ -68,58 +91,63 @@ public class MapGenerator {
         }
 
         // Initialize Paddle object
-        paddle = new Paddle(320, 715, width, 15, model.setSpeed(speed));
+        paddle = new Paddle(320, PADDLE_Y, width, PADDLE_HEIGHT, model.getSpeed(speed));
+    }
+
+    // True if a grid of this size can be laid out with bricks at least one pixel in size
+    static boolean canLayOut(int columns, int rows) {
+        return columns >= 1 && rows >= 1 && columns <= MAX_COLUMNS && rows <= MAX_ROWS;
     }
 
     // Generate brick pattern for given level and difficulty
     private void generateBricks() {
-        int offsetY = 50; // Distance from top of window
-        int padding = 5; // Space between bricks
+        int columns = LAYOUT.getColumns();
+        int rows = LAYOUT.getRows();
+        if (!canLayOut(columns, rows)) { throw new IllegalArgumentException("Level grid can't be laid out: " + columns + "x" + rows); }
+
+        // Bricks fill the width and the upper half of the field whatever the grid size;
+        // the padding shrinks with the cells so bricks keep at least a pixel
+        int cellWidth = (model.getFieldWidth() - 2 * PADDING) / columns; // 800 wide, 10 columns -> 79
+        int cellHeight = (model.getFieldHeight() - OFFSET_Y) / (2 * rows); // 800 high, 10 rows -> 37
+        int brickWidth = cellWidth - Math.min(PADDING, cellWidth / 4); // 10 columns -> 74
+        int brickHeight = cellHeight - Math.min(PADDING, cellHeight / 4); // 10 rows -> 32
+
+        bricks = new BrickField(columns * rows);
+        Random rand = new Random(colorSeed); // Picks brick colors from the shared palette (seeded for replays)
+
+        for(int row = 0; row < rows; row++) {
+            for(int col = 0; col < columns; col++) {
+                // Add brick to the field if the cell holds one (durability comes from the level)
+                int durability = LAYOUT.getDurability(col, row);
+                if(durability > 0) {
+                    int x = col * cellWidth;
+                    int y = row * cellHeight + OFFSET_Y;
+                    bricks.add(x, y, brickWidth, brickHeight, durability, rand.nextInt(BrickField.getPaletteSize()));
+                }
+            }
+        }
 
-        int brickWidth = (model.getGameWindowWidth() - 2 * padding) / 10 - padding; // GAME_WINDOW_WIDTH = 800 -> brickWidth = 74
-        int brickHeight = (model.getGameWindowHeight() - offsetY) / 20 - padding; // GAME_WINDOW_HEIGHT = 800 -> brickHeight = 32
+        // One grid cell per brick slot, so a ball overlaps at most a few cells
+        bricks.buildGrid(model.getFieldWidth(), model.getFieldHeight(), cellWidth, cellHeight);
+    }
 
-        // Set Brick destructionLevel
-        int baseDestruction = switch (DIFFICULTY) {
+    // Brick durability of the built-in levels for a difficulty
+    static int getBaseDurability(String difficulty) {
+        return switch (difficulty.toLowerCase()) {
             case "medium" -> 2;
             case "hard" -> 3;
             default -> 1; // EASY
         };
-
-        // Get 2D array of brick pattern
-        int[][] pattern = getLayoutForLevel(LEVEL, DIFFICULTY).getLayout();
-
-        for(int row = 0; row < pattern.length; row++) {
-            for(int col = 0; col < pattern[row].length; col++) {
-                // Add Brick to list if it exists in pattern array
-                if(pattern[row][col] == 1) {
-                    int x = col * (brickWidth + padding);
-                    int y = row * (brickHeight + padding) + offsetY;
-                    bricks.add(new Brick(x, y, brickWidth, brickHeight, baseDestruction));
-                }
-            }
-        }
     }
 
-    // Return brick layout based on level and difficulty
-    private BrickLayout getLayoutForLevel(int level, String difficulty) {
-        return switch (level) {
-            case 1 -> switch (difficulty) {
-                case "medium" -> BrickLayout.LEVEL_1_MEDIUM;
-                case "hard" -> BrickLayout.LEVEL_1_HARD;
-                default -> BrickLayout.LEVEL_1_EASY;
-            };
-            case 2 -> switch (difficulty) {
-                case "medium" -> BrickLayout.LEVEL_2_MEDIUM;
-                case "hard" -> BrickLayout.LEVEL_2_HARD;
-                default -> BrickLayout.LEVEL_2_EASY;
-            };
-            case 3 -> switch (difficulty) {
-                case "medium" -> BrickLayout.LEVEL_3_MEDIUM;
-                case "hard" -> BrickLayout.LEVEL_3_HARD;
-                default -> BrickLayout.LEVEL_3_EASY;
-            };
-            default -> BrickLayout.LEVEL_1_EASY;
-        };
+    // Return brick layout of the level from the level pack
+    private static LevelLayout getLayoutForLevel(LevelPack pack, int level, String difficulty) {
+        int index = pack.find(difficulty, level);
+        if (index < 0) { throw new IllegalArgumentException("Level pack has no level " + level + " for " + difficulty); }
+        try {
+            return pack.decode(index);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
-}
\ No newline at end of file
+}
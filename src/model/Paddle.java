@@ -1,20 +1,21 @@
 package model;
 
-import java.awt.*;
-import java.awt.event.KeyEvent;
-
 public class Paddle {
     private double x; // X coordinate
+    private double prevX; // X coordinate at the previous tick (for render interpolation)
     private final double y; // Y coordinate
     private final int width; // Paddle width
     private final int height; // Paddle height
-    private final int speed; // Paddle movement speed
+    private final double speed; // Paddle movement speed in pixels per second
     private boolean movingLeft = false; // Indicates if paddle is moving left
     private boolean movingRight = false; // Indicates if paddle is moving right
+    private double leftFraction = 1.0; // Part of the next step the left movement lasts (sub-tick input)
+    private double rightFraction = 1.0; // Part of the next step the right movement lasts (sub-tick input)
 
     // Paddle constructor
-    public Paddle(double x, double y, int width, int height, int speed) {
+    public Paddle(double x, double y, int width, int height, double speed) {
         this.x = x;
+        this.prevX = x;
         this.y = y;
         this.width = width;
         this.height = height;
@@ -22,29 +23,41 @@ public class Paddle {
     }
 
     public double getX() { return x; }
+    public double getPrevX() { return prevX; }
     public double getY() { return y; }
     public int getWidth() { return width; }
     public int getHeight() { return height; }
+    public double getSpeed() { return speed; }
+
+    // Moves the paddle left, stopping at the left wall
+    public void moveLeft(double dt) { x = Math.max(0, x - speed * dt); }
 
-    // Moves the paddle left if within bounds
-    public void moveLeft() { if (x - speed >= 0) { x -= speed; } } // moving paddle if it doesn't exceed the left window border
+    // Moves the paddle right, stopping at the right wall
+    public void moveRight(double dt) { x = Math.min(GameModel.RIGHT_WALL - width, x + speed * dt); }
 
-    // Moves the paddle right if within bounds (assuming 800px window width)
-    public void moveRight() { if (x + width < 785) { x += speed; } } // moving paddle if it doesn't exceed the right window border
+    // Moves the paddle by one simulation step based on current direction flags
+    public void move(double dt) {
+        prevX = x;
+        if (movingLeft) { moveLeft(dt * leftFraction); }
+        if (movingRight) { moveRight(dt * rightFraction); }
+    }
 
-    // Moves the paddle based on current direction flags
-    public void move() {
-        if (movingLeft) { moveLeft(); }
-        if (movingRight) { moveRight(); }
+    // Restores position (used by rewind)
+    public void setPosition(double x, double prevX) {
+        this.x = x;
+        this.prevX = prevX;
     }
 
-    // Updates movement flags based on key input
-    public void setMoving(int keyCode, boolean isMoving) {
-        if (keyCode == KeyEvent.VK_LEFT) {
-            movingLeft = isMoving;
-        } else if (keyCode == KeyEvent.VK_RIGHT) {
-            movingRight = isMoving;
-        }
+    // Updates left movement flag (e.g. from key input)
+    public void setMovingLeft(boolean isMoving) { movingLeft = isMoving; }
+
+    // Updates right movement flag (e.g. from key input)
+    public void setMovingRight(boolean isMoving) { movingRight = isMoving; }
+
+    // Sets how much of the next step each direction is held (1 = the whole step)
+    public void setHeldFractions(double left, double right) {
+        leftFraction = left;
+        rightFraction = right;
     }
 
     // Stops all paddle movement (e.g., after game over)
@@ -52,10 +65,4 @@ public class Paddle {
         movingLeft = false;
         movingRight = false;
     }
-
-    // Paints the paddle
-    public void paint(Graphics2D g2d) {
-        g2d.setColor(Color.WHITE);
-        g2d.fillRoundRect((int) getX(), (int) getY(), getWidth(), getHeight(), 15, 15);
-    }
-}
\ No newline at end of file
+}
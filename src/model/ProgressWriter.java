@@ -0,0 +1,134 @@
+package model;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Saves progress on a background thread (write-behind).
+ * Updates only replace the pending values, so a burst of score changes becomes one write.
+ * The pending state is written once updates have stopped for QUIET_NANOS (debounce), but no later
+ * than MAX_DELAY_NANOS after the first unsaved change, so a long burst still gets saved.
+ * It is also written right away when flush() is called, and once more when the JVM shuts down.
+ * Files are written to a temporary file and moved over the old one, so a crash
+ * leaves either the old or the new progress, never a partial file.
+ */
+public class ProgressWriter {
+    private static final long QUIET_NANOS = 1_000_000_000L; // Time without updates before the pending state is written
+    private static final long MAX_DELAY_NANOS = 5_000_000_000L; // Longest delay of a write after the first unsaved change
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000; // Longest wait for the last write at shutdown
+
+    private final Path file; // Progress file
+    private final Path tempFile; // Written first, then moved over the progress file
+    private final Thread worker = new Thread(this::run, "progress-writer");
+
+    // Pending state (guarded by this)
+    private final Map<String, Integer> unlockedLevels = new HashMap<>();
+    private int maxScore;
+    private boolean dirty = false; // Pending state differs from the file
+    private long dirtySince; // Time of the first unsaved change
+    private long lastUpdate; // Time of the latest unsaved change
+    private boolean flushRequested = false; // Write without waiting for updates to stop
+    private boolean closed = false; // No more updates; the worker writes what is pending and stops
+
+    // ProgressWriter constructor - starts the worker and saves pending progress at shutdown
+    public ProgressWriter(Path file) {
+        this.file = file;
+        this.tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        worker.setDaemon(true);
+        worker.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "progress-shutdown"));
+    }
+
+    /**
+     * Replaces the pending progress (called by the game thread).
+     * Only copies a few values under a lock the worker holds just as briefly; never waits for I/O.
+     */
+    public synchronized void update(Map<String, Integer> levels, int score) {
+        if (closed) { return; }
+        unlockedLevels.putAll(levels);
+        maxScore = score;
+        lastUpdate = System.nanoTime(); // Every update pushes the write back (up to the cap)
+        if (!dirty) {
+            dirty = true;
+            dirtySince = lastUpdate;
+            notifyAll();
+        }
+    }
+
+    // Requests writing the pending progress now (returns immediately)
+    public synchronized void flush() {
+        flushRequested = true;
+        notifyAll();
+    }
+
+    // Writes pending progress and stops the worker; waits for the write a bounded time
+    public void close() {
+        synchronized (this) {
+            if (closed) { return; }
+            closed = true;
+            notifyAll();
+        }
+        try {
+            worker.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Worker: waits for changes, copies them under the lock, writes outside of it
+    private void run() {
+        Properties props = new Properties();
+        while (true) {
+            synchronized (this) {
+                try {
+                    while (!dirty || (!flushRequested && !closed && writeDelay() > 0)) {
+                        if (closed) { return; } // Nothing pending
+                        if (dirty) {
+                            wait(Math.max(1, writeDelay() / 1_000_000)); // Updates in the meantime move the deadline
+                        } else {
+                            flushRequested = false; // Nothing to flush
+                            wait();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (var entry : unlockedLevels.entrySet()) { props.setProperty(entry.getKey(), entry.getValue().toString()); }
+                props.setProperty("MAXSCORE", Integer.toString(maxScore));
+                dirty = false;
+                flushRequested = false;
+            }
+            write(props);
+        }
+    }
+
+    // Time left until the pending state is due (quiet period after the last update, capped from the first one)
+    private long writeDelay() {
+        long due = Math.min(lastUpdate + QUIET_NANOS, dirtySince + MAX_DELAY_NANOS);
+        return due - System.nanoTime();
+    }
+
+    // Writes the progress to the temporary file and moves it over the progress file
+    private void write(Properties props) {
+        try {
+            try (FileOutputStream out = new FileOutputStream(tempFile.toFile())) {
+                props.store(out, "BrickBreaker Progress");
+                out.getFD().sync(); // Data must be on disk before the move makes it the progress file
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to save progress: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package model;
+
+/**
+ * Everything the renderer needs to draw one frame, copied from the model on the simulation thread.
+ * Instances are preallocated and reused by SnapshotExchange; a snapshot is written only while
+ * it is private to the simulation thread and read only after it has been published.
+ * Bricks are not copied: the field's geometry never changes after generation and its change log
+ * is append-only (rewinds append their undos too), so the snapshot records how many log entries belong to this frame.
+ * Moving objects are stored at the previous and the current tick together with the real time the
+ * current tick belongs to; the renderer blends them for the moment it draws (getInterpolation),
+ * so frames stay evenly spaced however the render and simulation clocks drift against each other.
+ */
+public class RenderSnapshot {
+    private BrickField bricks; // Brick field of the frame (null before the first game)
+    private int changeCount; // Brick change log entries included in the frame
+
+    private boolean tickClock; // Blend follows the real time (false = fixed blend)
+    private long tickTime; // Real time the current tick belongs to (System.nanoTime)
+    private long tickNanos; // Duration of one tick
+    private double interpolation; // Blend used while the clock is stopped
+
+    private int ballCount = 0; // Number of ball slots in use (visible or not)
+    private double[] prevBallX = new double[0]; // Ball X coordinates at the previous tick
+    private double[] prevBallY = new double[0]; // Ball Y coordinates at the previous tick
+    private double[] ballX = new double[0]; // Ball X coordinates at the current tick
+    private double[] ballY = new double[0]; // Ball Y coordinates at the current tick
+    private boolean[] ballVisible = new boolean[0]; // Which slots hold a ball
+    private int activeBalls; // Number of visible balls
+    private int ballDiameter;
+
+    private double prevPaddleX; // Paddle X coordinate at the previous tick
+    private double paddleX; // Paddle X coordinate at the current tick
+    private double paddleY;
+    private int paddleWidth;
+    private int paddleHeight;
+
+    private int score;
+    private int lives;
+    private boolean startHint; // Ball waits on the paddle for the player to start
+
+    // Copies the current model state (called on the simulation thread only)
+    void capture(GameModel model) {
+        BallPool balls = model.getBalls();
+        if (balls == null) { // No game started yet
+            bricks = null;
+            return;
+        }
+
+        bricks = model.getBricks();
+        changeCount = bricks.getChangeCount();
+        tickClock = model.isTickClockRunning();
+        tickTime = model.getTickTime();
+        tickNanos = model.getTickNanos();
+        interpolation = model.getInterpolation();
+
+        ballCount = balls.getHighWater();
+        if (ballX.length < ballCount) {
+            prevBallX = new double[balls.getCapacity()];
+            prevBallY = new double[balls.getCapacity()];
+            ballX = new double[balls.getCapacity()];
+            ballY = new double[balls.getCapacity()];
+            ballVisible = new boolean[balls.getCapacity()];
+        }
+        for (int i = 0; i < ballCount; i++) {
+            ballVisible[i] = balls.isActive(i);
+            if (ballVisible[i]) {
+                prevBallX[i] = balls.getPrevX(i);
+                prevBallY[i] = balls.getPrevY(i);
+                ballX[i] = balls.getX(i);
+                ballY[i] = balls.getY(i);
+            }
+        }
+        activeBalls = balls.getActiveCount();
+        ballDiameter = balls.getDiameter();
+
+        Paddle paddle = model.getPaddle();
+        prevPaddleX = paddle.getPrevX();
+        paddleX = paddle.getX();
+        paddleY = paddle.getY();
+        paddleWidth = paddle.getWidth();
+        paddleHeight = paddle.getHeight();
+
+        score = model.getScore();
+        lives = model.getLives();
+        startHint = balls.isStuck() && model.isGameRunning();
+    }
+
+    // True if the snapshot holds a game (false before the first game is started)
+    public boolean hasGame() { return bricks != null; }
+
+    public BrickField getBricks() { return bricks; }
+    public int getChangeCount() { return changeCount; }
+
+    /**
+     * Blend factor (0.0 - 1.0) between the previous and the current tick for a frame drawn at 'now'.
+     * The current tick's state is reached one tick after its time, so motion is shown a tick late but evenly.
+     */
+    public double getInterpolation(long now) { return tickClock ? blend(now, tickTime, tickNanos) : interpolation; }
+
+    // Blend factor at 'now' for a tick that belongs to 'tickTime'
+    static double blend(long now, long tickTime, long tickNanos) {
+        return Math.min(1.0, Math.max(0.0, (now - tickTime) / (double) tickNanos));
+    }
+
+    public int getBallCount() { return ballCount; }
+    public double getBallX(int i, double alpha) { return prevBallX[i] + (ballX[i] - prevBallX[i]) * alpha; }
+    public double getBallY(int i, double alpha) { return prevBallY[i] + (ballY[i] - prevBallY[i]) * alpha; }
+    public boolean isBallVisible(int i) { return ballVisible[i]; }
+    public int getActiveBalls() { return activeBalls; }
+    public int getBallDiameter() { return ballDiameter; }
+
+    public double getPaddleX(double alpha) { return prevPaddleX + (paddleX - prevPaddleX) * alpha; }
+    public double getPaddleY() { return paddleY; }
+    public int getPaddleWidth() { return paddleWidth; }
+    public int getPaddleHeight() { return paddleHeight; }
+
+    public int getScore() { return score; }
+    public int getLives() { return lives; }
+    public boolean isStartHint() { return startHint; }
+}
@@ -0,0 +1,89 @@
+package model;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Re-simulates an input log written by InputRecorder through a GameModel.
+ * Each step() applies the recorded input of one tick; game starts and brick resets
+ * are replayed when the log reaches them. Pacing is up to the caller: stepping in a tight
+ * loop replays as fast as the CPU allows, a timed loop replays in real time.
+ */
+public class ReplayPlayer {
+    private final GameModel model; // Model the log is replayed into
+    private final DataInputStream in;
+    private final int version; // Log format version
+    private int input = 0; // Input of the current run
+    private int remaining = 0; // Ticks left in the current run
+    private long ticks = 0; // Ticks replayed so far
+    private int games = 0; // Games started so far
+
+    // ReplayPlayer constructor - checks the log header
+    public ReplayPlayer(byte[] log, GameModel model) throws IOException {
+        this.model = model;
+        this.in = new DataInputStream(new ByteArrayInputStream(log));
+        if (in.readInt() != InputRecorder.MAGIC) { throw new IOException("Not an input log"); }
+        version = in.readUnsignedShort();
+        if (version < 1 || version > InputRecorder.VERSION) { throw new IOException("Unsupported input log version: " + version); }
+        model.enableRewind(); // Same history as the recording game, so recorded rewinds land on the same tick
+    }
+
+    // Opens a log file
+    public static ReplayPlayer open(Path file, GameModel model) throws IOException {
+        return new ReplayPlayer(Files.readAllBytes(file), model);
+    }
+
+    public long getTicks() { return ticks; }
+    public int getGames() { return games; }
+
+    /**
+     * Replays one tick (and any game start or brick reset recorded before it).
+     * Returns false when the log has ended.
+     */
+    public boolean step() throws IOException {
+        while (remaining == 0) {
+            int op = in.read();
+            switch (op) {
+                case -1 -> { return false; }
+                case InputRecorder.OP_START -> startGame();
+                case InputRecorder.OP_INPUT -> {
+                    input = version == 1 ? in.readUnsignedByte() : readVarint();
+                    remaining = readVarint();
+                }
+                case InputRecorder.OP_RESET_BRICKS -> model.resetBricksOnly();
+                case InputRecorder.OP_REWIND -> model.rewind(readVarint());
+                default -> throw new IOException("Corrupt input log: unknown record " + op);
+            }
+        }
+        remaining--;
+        ticks++;
+        model.tick(input);
+        return true;
+    }
+
+    // Starts a game with the recorded settings
+    private void startGame() throws IOException {
+        model.setLEVEL(in.readInt());
+        model.setDIFFICULTY(in.readUTF());
+        model.setSeed(in.readLong());
+        model.setTickRate(in.readInt());
+        int lives = in.readInt();
+        model.startGame();
+        model.setLives(lives);
+        games++;
+    }
+
+    // Reads an unsigned varint (7 bits per byte, low bits first)
+    private int readVarint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) { return value; }
+        }
+        throw new IOException("Corrupt input log: varint too long");
+    }
+}
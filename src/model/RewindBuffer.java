@@ -0,0 +1,135 @@
+package model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Keeps the recent history of a game so it can be scrubbed backwards.
+ * Every KEYFRAME_INTERVAL ticks a full keyframe (paddle, balls, score, lives, brick
+ * change log length) is written into a preallocated byte ring; in between only the
+ * input of each tick is stored (one byte). The simulation is deterministic, so any
+ * tick is restored by loading the keyframe before it and re-simulating the stored inputs.
+ * Brick state needs no copy: the field's change log is undone from its end.
+ * Memory is fixed at creation; old keyframes are dropped when their bytes are reused
+ * or when they fall out of the time window.
+ */
+public class RewindBuffer {
+    private static final int KEYFRAME_INTERVAL = 15; // Ticks between keyframes (most re-simulated per rewind)
+
+    private final byte[] data; // Keyframe ring
+    private final ByteBuffer buffer; // View over the ring used for reading and writing
+    private final int[] inputs; // Input of each tick (indexed by tick % length)
+
+    // Keyframe index (circular queue, oldest at 'first')
+    private final long[] keyframeTicks;
+    private final int[] keyframeOffsets;
+    private final int[] keyframeLengths;
+    private int first = 0; // Oldest keyframe
+    private int keyframes = 0; // Number of stored keyframes
+    private int writeOffset = 0; // Where the next keyframe goes in the ring
+
+    private long newestTick = -1; // Last tick whose input is stored
+
+    /**
+     * RewindBuffer constructor.
+     * maxTicks - time window in ticks, keyframeBytes - size of the keyframe ring.
+     */
+    public RewindBuffer(int maxTicks, int keyframeBytes) {
+        data = new byte[keyframeBytes];
+        buffer = ByteBuffer.wrap(data);
+        inputs = new int[maxTicks];
+        int slots = maxTicks / KEYFRAME_INTERVAL + 1;
+        keyframeTicks = new long[slots];
+        keyframeOffsets = new int[slots];
+        keyframeLengths = new int[slots];
+    }
+
+    // Forgets the history (new map)
+    public void clear() {
+        first = 0;
+        keyframes = 0;
+        writeOffset = 0;
+        newestTick = -1;
+    }
+
+    // Oldest tick that can be restored (-1 if there is no history)
+    public long getOldestTick() { return keyframes == 0 ? -1 : keyframeTicks[first]; }
+
+    /**
+     * Stores the input of a tick (called before the tick runs).
+     * Every KEYFRAME_INTERVAL ticks the state before the tick is stored as a keyframe.
+     */
+    public void record(GameModel model, long tick, int input) {
+        if (keyframes == 0 || (tick % KEYFRAME_INTERVAL == 0 && keyframeTicks[slot(keyframes - 1)] != tick)) {
+            writeKeyframe(model, tick);
+        }
+        inputs[(int) (tick % inputs.length)] = input;
+        newestTick = tick;
+
+        // Drop keyframes whose following inputs have been overwritten
+        while (keyframes > 1 && keyframeTicks[first] <= tick - inputs.length) { dropOldest(); }
+    }
+
+    /**
+     * Restores the state of the model before the given tick.
+     * Loads the nearest keyframe and re-simulates the stored inputs up to the tick;
+     * everything recorded after it is forgotten. Returns the restored tick (-1 without history).
+     */
+    public long rewindTo(GameModel model, long tick) {
+        if (keyframes == 0) { return -1; }
+        tick = Math.max(tick, getOldestTick());
+
+        // Newest keyframe at or before the tick; later keyframes are dropped
+        while (keyframes > 1 && keyframeTicks[slot(keyframes - 1)] > tick) { keyframes--; }
+        int last = slot(keyframes - 1);
+        writeOffset = keyframeOffsets[last] + keyframeLengths[last];
+
+        buffer.position(keyframeOffsets[last]);
+        long keyframeTick = buffer.getLong();
+        model.readState(buffer);
+        for (long t = keyframeTick; t < tick; t++) { model.replayTick(inputs[(int) (t % inputs.length)]); }
+        newestTick = tick - 1;
+        return tick;
+    }
+
+    // Writes a keyframe of the current model state
+    private void writeKeyframe(GameModel model, long tick) {
+        int length = 8 + model.getStateSize();
+        if (length > data.length) { // State too large for the ring - no history at all
+            clear();
+            return;
+        }
+        if (writeOffset + length > data.length) { // Records are never split: continue at the start
+            // The oldest keyframes lie between the old write position and the end of the ring
+            while (keyframes > 0 && keyframeOffsets[first] >= writeOffset) { dropOldest(); }
+            writeOffset = 0;
+        }
+
+        // Drop keyframes whose bytes are about to be overwritten
+        while (keyframes > 0 && overlaps(first, writeOffset, length)) { dropOldest(); }
+        if (keyframes == keyframeTicks.length) { dropOldest(); }
+
+        int slot = slot(keyframes);
+        keyframeTicks[slot] = tick;
+        keyframeOffsets[slot] = writeOffset;
+        keyframeLengths[slot] = length;
+        keyframes++;
+
+        buffer.position(writeOffset);
+        buffer.putLong(tick);
+        model.writeState(buffer);
+        writeOffset += length;
+    }
+
+    // True if the keyframe in the given slot shares bytes with [offset, offset + length)
+    private boolean overlaps(int slot, int offset, int length) {
+        return keyframeOffsets[slot] < offset + length && offset < keyframeOffsets[slot] + keyframeLengths[slot];
+    }
+
+    private void dropOldest() {
+        first = (first + 1) % keyframeTicks.length;
+        keyframes--;
+    }
+
+    // Ring slot of the n-th stored keyframe (0 = oldest)
+    private int slot(int n) { return (first + n) % keyframeTicks.length; }
+}
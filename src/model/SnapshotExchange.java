@@ -0,0 +1,32 @@
+package model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands render snapshots from the simulation thread to the render thread without locks.
+ * Three preallocated snapshots rotate between the writer (back), the exchange slot (middle)
+ * and the reader (front). Publishing and acquiring are a single atomic swap of the middle slot,
+ * so neither side ever waits, and the writer never touches the snapshot being drawn.
+ * Exactly one thread may publish and one thread may acquire.
+ */
+public class SnapshotExchange {
+    private static final int INDEX_MASK = 3; // Snapshot index stored in the middle slot
+    private static final int FRESH = 4; // Middle slot holds a snapshot the reader hasn't seen yet
+
+    private final RenderSnapshot[] snapshots = {new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()};
+    private final AtomicInteger middle = new AtomicInteger(1); // Exchange slot (index | FRESH)
+    private int back = 0; // Snapshot owned by the writer
+    private int front = 2; // Snapshot owned by the reader
+
+    // Captures the model into the back snapshot and publishes it (simulation thread)
+    public void publish(GameModel model) {
+        snapshots[back].capture(model);
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    // Returns the newest published snapshot; it stays valid until the next call (render thread)
+    public RenderSnapshot acquire() {
+        if ((middle.get() & FRESH) != 0) { front = middle.getAndSet(front) & INDEX_MASK; }
+        return snapshots[front];
+    }
+}
@@ -0,0 +1,14 @@
+package model;
+
+/**
+ * Receives the duration of each simulation step, split by phase.
+ * Keeps the model free of any monitoring code; the model measures only while a profiler is set.
+ */
+public interface TickProfiler {
+    /**
+     * Called after every tick (on the simulation thread).
+     * paddleNanos - paddle movement, ballNanos - ball movement and bounce resolution,
+     * collisionNanos - contact searches (walls, paddle, bricks) performed during ball movement.
+     */
+    void onTick(long paddleNanos, long ballNanos, long collisionNanos);
+}
@@ -0,0 +1,93 @@
+package model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Procedural brick layouts for endless mode.
+ * Each wave is generated from the game seed and the wave number only, so replays rebuild
+ * the same waves. The next wave is built on a background thread while the current one
+ * is played; the game thread then only swaps the finished map in.
+ */
+public class WaveGenerator {
+    private static final int COLUMNS = 10; // Same grid as the built-in levels
+    private static final int ROWS = 10;
+    private static final long WAVE_SEED_MIX = 0x9E3779B97F4A7C15L; // Spreads wave numbers over the seed space
+
+    // One daemon thread for all models (generation takes well under a wave's play time)
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "wave-generator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Future<MapGenerator> pending; // Map being built in the background (null = none)
+    private int pendingWave; // Wave number of the pending map
+    private String pendingDifficulty; // Difficulty of the pending map
+    private long pendingSeed; // Game seed of the pending map
+
+    // Starts building a wave in the background (replaces any map prepared before)
+    void prepare(int wave, String difficulty, long seed, GameModel model) {
+        if (pending != null) { pending.cancel(false); }
+        pendingWave = wave;
+        pendingDifficulty = difficulty;
+        pendingSeed = seed;
+        pending = EXECUTOR.submit(() -> build(wave, difficulty, seed, model));
+    }
+
+    // Returns the map of a wave, waiting for the background build if it is still running
+    MapGenerator take(int wave, String difficulty, long seed, GameModel model) {
+        Future<MapGenerator> ready = pending;
+        pending = null;
+        if (ready != null && pendingWave == wave && pendingDifficulty.equals(difficulty) && pendingSeed == seed) {
+            try {
+                return ready.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Wave generation failed", e.getCause());
+            }
+        }
+        if (ready != null) { ready.cancel(false); }
+        return build(wave, difficulty, seed, model); // Not prepared (or interrupted): build it here
+    }
+
+    // Drops the prepared map (e.g. a new game was started)
+    void cancel() {
+        if (pending != null) { pending.cancel(false); }
+        pending = null;
+    }
+
+    private static MapGenerator build(int wave, String difficulty, long seed, GameModel model) {
+        long waveSeed = seed + wave * WAVE_SEED_MIX;
+        return new MapGenerator(generate(wave, MapGenerator.getBaseDurability(difficulty), waveSeed), difficulty, waveSeed, model);
+    }
+
+    /**
+     * Generates the layout of a wave: a mirrored pattern that gets denser and tougher
+     * as waves go on (starting from the difficulty's base durability).
+     */
+    public static LevelLayout generate(int wave, int baseDurability, long waveSeed) {
+        SplittableRandom rand = new SplittableRandom(waveSeed);
+        double density = Math.min(0.35 + 0.04 * wave, 0.8); // Chance of a brick in a cell
+        double toughChance = Math.min(0.1 * wave, 0.6); // Chance of a brick one hit tougher than the base
+        int rows = Math.min(5 + wave / 2, ROWS); // Filled rows from the top
+
+        byte[] durability = new byte[COLUMNS * ROWS];
+        int bricks = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < COLUMNS / 2; col++) {
+                if (rand.nextDouble() >= density) { continue; }
+                int d = Math.min(baseDurability + (rand.nextDouble() < toughChance ? 1 : 0), 3);
+                durability[row * COLUMNS + col] = (byte) d;
+                durability[row * COLUMNS + COLUMNS - 1 - col] = (byte) d; // Mirror the left half
+                bricks += 2;
+            }
+        }
+        if (bricks == 0) { durability[COLUMNS / 2] = durability[COLUMNS / 2 - 1] = (byte) baseDurability; } // Never an empty wave
+        return new LevelLayout(COLUMNS, ROWS, durability, new byte[COLUMNS * ROWS]);
+    }
+}
@@ -0,0 +1,93 @@
+package utils;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+/**
+ * Log-linear histogram of durations in nanoseconds.
+ * Every power of two is split into 16 linear buckets (values below 32 are exact),
+ * so percentiles are accurate to about 6% over the whole range of a long.
+ * Recording is a few shifts and an array increment: no allocation, no locks.
+ * One thread records; other threads may read approximate values at any time.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5; // Values below 2^5 get one bucket each
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF = SUB_BUCKETS / 2; // Linear buckets per power of two above that
+    private static final int BUCKETS = SUB_BUCKETS + (64 - SUB_BUCKET_BITS) * HALF;
+
+    private final String name; // Shown in reports
+    private final long[] counts = new long[BUCKETS];
+    private long count = 0; // Number of recorded values
+    private long total = 0; // Sum of recorded values
+    private long max = 0; // Largest recorded value
+
+    // LatencyHistogram constructor
+    public LatencyHistogram(String name) { this.name = name; }
+
+    public String getName() { return name; }
+    public long getCount() { return count; }
+    public long getMax() { return max; }
+
+    // Mean of the recorded values (0 if empty)
+    public double getMean() { return count == 0 ? 0 : total / (double) count; }
+
+    // Records one duration (negative values count as 0)
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucket(value)]++;
+        count++;
+        total += value;
+        if (value > max) { max = value; }
+    }
+
+    /**
+     * Returns the value below or at which the given percentage of recorded values lie
+     * (upper bound of the bucket holding it, never above the maximum).
+     */
+    public long getPercentile(double percentile) {
+        long recorded = count;
+        if (recorded == 0) { return 0; }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * recorded));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) { return Math.min(upperBound(i), max); }
+        }
+        return max;
+    }
+
+    // Clears all recorded values
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        total = 0;
+        max = 0;
+    }
+
+    // Writes a summary line and the non-empty buckets
+    public void writeTo(PrintWriter out) {
+        out.printf("%s: count=%d mean=%.1fus p50=%.1fus p90=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus%n",
+                name, count, getMean() / 1e3, getPercentile(50) / 1e3, getPercentile(90) / 1e3,
+                getPercentile(99) / 1e3, getPercentile(99.9) / 1e3, max / 1e3);
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] != 0) { out.printf("  <= %12d ns  %d%n", upperBound(i), counts[i]); }
+        }
+    }
+
+    // Bucket index of a value
+    private static int bucket(long value) {
+        if (value < SUB_BUCKETS) { return (int) value; }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS + 1; // Bits dropped from the value
+        int sub = (int) (value >>> shift); // Top bits, in [HALF, SUB_BUCKETS)
+        return SUB_BUCKETS + (shift - 1) * HALF + (sub - HALF);
+    }
+
+    // Largest value falling into a bucket
+    private static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) { return bucket; }
+        int shift = (bucket - SUB_BUCKETS) / HALF + 1;
+        long sub = (bucket - SUB_BUCKETS) % HALF + HALF;
+        return ((sub + 1) << shift) - 1;
+    }
+}
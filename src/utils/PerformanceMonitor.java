@@ -0,0 +1,171 @@
+package utils;
+
+import model.TickProfiler;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Collects timing statistics of the game loop: tick phases (from the model) and frames (from the view).
+ * Durations go into allocation-free histograms; once per second the monitor also computes
+ * FPS, TPS, the allocation rate of the tick and render threads, and GC activity,
+ * and prepares the text shown by the performance overlay.
+ * Tick timings are recorded on the simulation thread, frames and samples on the render thread.
+ */
+public class PerformanceMonitor implements TickProfiler {
+    private static final int GRAPH_SIZE = 240; // Frames kept for the frame-time graph
+    private static final long SAMPLE_NANOS = 1_000_000_000L; // Interval of rate calculations
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final List<GarbageCollectorMXBean> COLLECTORS = ManagementFactory.getGarbageCollectorMXBeans();
+
+    // Histograms
+    private final LatencyHistogram tickTimes = new LatencyHistogram("tick");
+    private final LatencyHistogram paddleTimes = new LatencyHistogram("tick.paddle");
+    private final LatencyHistogram ballTimes = new LatencyHistogram("tick.balls");
+    private final LatencyHistogram collisionTimes = new LatencyHistogram("tick.collision");
+    private final LatencyHistogram frameTimes = new LatencyHistogram("frame");
+    private final LatencyHistogram frameIntervals = new LatencyHistogram("frame.interval");
+
+    private volatile boolean overlayVisible = false; // Performance overlay toggle
+    private volatile long ticks = 0; // Ticks recorded (written by the simulation thread only)
+    private volatile long tickThread = -1; // Id of the simulation thread
+    private long renderThread = -1; // Id of the render thread
+
+    // Frame-time graph (render thread)
+    private final long[] graph = new long[GRAPH_SIZE]; // Recent frame times (nanoseconds)
+    private int graphNext = 0; // Slot for the next frame
+    private long lastFrameStart = 0;
+
+    // Last sample (render thread)
+    private long sampleTime = System.nanoTime();
+    private long sampleFrames = 0, frames = 0;
+    private long sampleTicks = 0;
+    private long sampleTickAllocated = -1, sampleRenderAllocated = -1;
+    private long sampleTickThread = -1, sampleRenderThread = -1;
+    private long sampleGcCount = gcCount(), sampleGcTime = gcTime();
+    private final String[] lines = {"FPS: -", "TPS: -", "", "", "", "", ""}; // Overlay text
+
+    @Override
+    public void onTick(long paddleNanos, long ballNanos, long collisionNanos) {
+        tickTimes.record(paddleNanos + ballNanos);
+        paddleTimes.record(paddleNanos);
+        ballTimes.record(ballNanos);
+        collisionTimes.record(collisionNanos);
+        if (ticks == 0 || (ticks & 1023) == 0) { tickThread = Thread.currentThread().getId(); } // Executor may be replaced
+        ticks++;
+    }
+
+    // Marks the beginning of a frame; returns the start time for frameFinished()
+    public long frameStarted() {
+        long now = System.nanoTime();
+        if (lastFrameStart != 0) { frameIntervals.record(now - lastFrameStart); }
+        lastFrameStart = now;
+        return now;
+    }
+
+    // Records a frame that began at 'start' (call on the thread that draws frames)
+    public void frameFinished(long start) {
+        long now = System.nanoTime();
+        long frameTime = now - start;
+        frameTimes.record(frameTime);
+        graph[graphNext] = frameTime;
+        graphNext = (graphNext + 1) % GRAPH_SIZE;
+        renderThread = Thread.currentThread().getId();
+        frames++;
+        if (now - sampleTime >= SAMPLE_NANOS) { sample(now); }
+    }
+
+    public boolean isOverlayVisible() { return overlayVisible; }
+
+    public void setOverlayVisible(boolean overlayVisible) { this.overlayVisible = overlayVisible; }
+
+    public void toggleOverlay() { overlayVisible = !overlayVisible; }
+
+    // Overlay text, updated once per second
+    public String[] getOverlayLines() { return lines; }
+
+    public int getGraphSize() { return GRAPH_SIZE; }
+
+    // Frame time of the graph entry 'age' frames ago (0 = newest)
+    public long getGraphValue(int age) { return graph[Math.floorMod(graphNext - 1 - age, GRAPH_SIZE)]; }
+
+    // Computes rates for the last interval and refreshes the overlay text
+    private void sample(long now) {
+        double seconds = (now - sampleTime) / 1e9;
+        long tickCount = ticks;
+        long tickAllocated = threadAllocated(tickThread);
+        long renderAllocated = threadAllocated(renderThread);
+        long allocated = 0;
+        if (tickThread == sampleTickThread && tickAllocated >= 0 && sampleTickAllocated >= 0) { allocated += tickAllocated - sampleTickAllocated; }
+        if (renderThread == sampleRenderThread && renderAllocated >= 0 && sampleRenderAllocated >= 0) { allocated += renderAllocated - sampleRenderAllocated; }
+        long gcCount = gcCount(), gcTime = gcTime();
+
+        if (overlayVisible) {
+            lines[0] = String.format("FPS: %.0f", (frames - sampleFrames) / seconds);
+            lines[1] = String.format("TPS: %.0f", (tickCount - sampleTicks) / seconds);
+            lines[2] = format("tick", tickTimes);
+            lines[3] = format("collide", collisionTimes);
+            lines[4] = format("frame", frameTimes);
+            lines[5] = String.format("alloc: %.1f KB/s", allocated / 1024.0 / seconds);
+            lines[6] = String.format("GC: %d (%d ms)/s", gcCount - sampleGcCount, gcTime - sampleGcTime);
+        }
+
+        sampleTime = now;
+        sampleFrames = frames;
+        sampleTicks = tickCount;
+        sampleTickThread = tickThread;
+        sampleRenderThread = renderThread;
+        sampleTickAllocated = tickAllocated;
+        sampleRenderAllocated = renderAllocated;
+        sampleGcCount = gcCount;
+        sampleGcTime = gcTime;
+    }
+
+    // One overlay line with the main percentiles of a histogram (microseconds)
+    private static String format(String label, LatencyHistogram histogram) {
+        return String.format("%-7s p50 %.0f p99 %.0f max %.0f us", label,
+                histogram.getPercentile(50) / 1e3, histogram.getPercentile(99) / 1e3, histogram.getMax() / 1e3);
+    }
+
+    // Writes all histograms as text
+    public void writeReport(PrintWriter out) {
+        out.printf("ticks=%d frames=%d%n", ticks, frames);
+        for (LatencyHistogram histogram : new LatencyHistogram[]{tickTimes, paddleTimes, ballTimes, collisionTimes, frameTimes, frameIntervals}) {
+            histogram.writeTo(out);
+        }
+    }
+
+    // Writes the histograms to a file when the JVM exits
+    public void dumpOnExit(File file) {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try (PrintWriter out = new PrintWriter(file)) {
+                writeReport(out);
+            } catch (IOException e) {
+                System.err.println("Error saving performance report: " + e.getMessage());
+            }
+        }, "performance-dump"));
+    }
+
+    // Bytes allocated so far by a thread (-1 if unknown)
+    private static long threadAllocated(long threadId) {
+        return threadId < 0 ? -1 : THREADS.getThreadAllocatedBytes(threadId);
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : COLLECTORS) { count += Math.max(0, gc.getCollectionCount()); }
+        return count;
+    }
+
+    private static long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : COLLECTORS) { time += Math.max(0, gc.getCollectionTime()); }
+        return time;
+    }
+}
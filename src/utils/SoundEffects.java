@@ -0,0 +1,20 @@
+package utils;
+
+import model.GameEventListener;
+
+/**
+ * Plays sound effects for gameplay events raised by the model.
+ */
+public class SoundEffects implements GameEventListener {
+    // Paths of all effects triggered during the game (preloaded at startup)
+    public static final String[] EFFECTS = {"/sounds/pong.wav", "/sounds/ring.wav", "/sounds/brunch.wav", "/sounds/crash.wav"};
+
+    @Override
+    public void onPaddleHit() { SoundLoader.playWAV("/sounds/pong.wav"); }
+
+    @Override
+    public void onBrickHit(boolean destroyed) { SoundLoader.playWAV("/sounds/ring.wav"); }
+
+    @Override
+    public void onBallLost() { SoundLoader.playWAV("/sounds/brunch.wav"); }
+}
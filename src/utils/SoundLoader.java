@@ -3,29 +3,124 @@ package utils;
 import javax.sound.sampled.*;
 import java.io.IOException;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 public class SoundLoader {
     private static final Map<Clip, Long> pausedPositions = new HashMap<>();
 
-    // For playing a short sound without looping
-    public static void playWAV(String path) {
+    /**
+     * SOUND EFFECTS
+     * Each effect is decoded once into memory and opened into a small pool of clips.
+     * Playing only bumps a counter and wakes the audio thread, which restarts
+     * the next clip of the pool (the oldest one is stolen when all are busy).
+     * An effect that wasn't preloaded is loaded by the audio thread; plays before it is ready are dropped.
+     */
+    private static final int VOICES_PER_EFFECT = 4; // Max simultaneous instances of one effect
+    private static final Map<String, Effect> effects = new ConcurrentHashMap<>(); // Preloaded effects by path
+    private static volatile Effect[] effectList = new Effect[0]; // Effects polled by the audio thread
+    private static final Queue<String> loadRequests = new ConcurrentLinkedQueue<>(); // Effects to load on the audio thread
+    private static final Set<String> lateEffects = ConcurrentHashMap.newKeySet(); // Effects requested without preloading
+    private static volatile Thread audioThread; // Starts clips outside of the caller thread
+
+    // Decoded sound effect with its pool of reusable clips
+    private static final class Effect {
+        private final Clip[] voices; // Opened clips (empty if audio is unavailable)
+        private final AtomicInteger pending = new AtomicInteger(); // Requested plays not started yet
+        private int nextVoice = 0; // Next clip to (re)start, only used by the audio thread
+
+        Effect(Clip[] voices) { this.voices = voices; }
+    }
+
+    // Decodes the given effects and opens their clip pools (call once at startup)
+    public static synchronized void preload(String... paths) {
+        for (String path : paths) {
+            if (!effects.containsKey(path)) { effects.put(path, loadEffect(path)); }
+        }
+        effectList = effects.values().toArray(new Effect[0]);
+        startAudioThread();
+    }
+
+    // Starts the audio thread unless it runs already
+    private static synchronized void startAudioThread() {
+        if (audioThread != null) { return; }
+        Thread thread = new Thread(SoundLoader::runAudioThread, "audio");
+        thread.setDaemon(true);
+        audioThread = thread;
+        thread.start();
+    }
+
+    // Reads the whole WAV into memory and opens a pool of clips sharing the decoded data
+    private static Effect loadEffect(String path) {
         URL soundURL = SoundLoader.class.getResource(path);
         if (soundURL == null) {
             System.err.println("Sound file not found: " + path);
-            return;
+            return new Effect(new Clip[0]);
         }
 
-        // Attempt to load and play the sound file
+        Clip[] voices = new Clip[VOICES_PER_EFFECT];
+        int opened = 0;
         try (AudioInputStream audioIn = AudioSystem.getAudioInputStream(soundURL)) {
-            Clip clip = AudioSystem.getClip();
-            clip.open(audioIn);
-            applyVolumeReduction(clip);
-            clip.start();
+            AudioFormat format = audioIn.getFormat();
+            byte[] data = audioIn.readAllBytes();
+            for (; opened < voices.length; opened++) {
+                Clip clip = AudioSystem.getClip();
+                clip.open(format, data, 0, data.length);
+                applyVolumeReduction(clip);
+                voices[opened] = clip;
+            }
         } catch (UnsupportedAudioFileException e) { System.err.println("Unsupported audio file: " + path);
-        } catch (IOException e) { System.err.println("I/O error while playing sound: " + path);
-        } catch (LineUnavailableException e) { System.err.println("Audio line unavailable: " + path);
+        } catch (IOException e) { System.err.println("I/O error while loading sound: " + path);
+        } catch (LineUnavailableException | IllegalArgumentException e) { System.err.println("Audio line unavailable: " + path);
+        }
+        return new Effect(Arrays.copyOf(voices, opened));
+    }
+
+    // For playing a short sound without looping (O(1), never blocks the caller)
+    public static void playWAV(String path) {
+        Effect effect = effects.get(path);
+        if (effect == null) {
+            // Not preloaded - decoding here would stall the caller (often the simulation thread),
+            // so the audio thread loads it for later calls and this one is dropped
+            if (lateEffects.add(path)) {
+                System.err.println("Sound effect not preloaded, loading it in the background: " + path);
+                loadRequests.add(path);
+                if (audioThread == null) { startAudioThread(); }
+                LockSupport.unpark(audioThread);
+            }
+            return;
+        }
+        if (effect.voices.length == 0) { return; }
+
+        effect.pending.incrementAndGet();
+        LockSupport.unpark(audioThread);
+    }
+
+    // Audio thread loop: loads late effects and starts requested ones, then sleeps until the next request
+    private static void runAudioThread() {
+        while (true) {
+            for (String path; (path = loadRequests.poll()) != null; ) { preload(path); }
+            boolean started = false;
+            for (Effect effect : effectList) {
+                int requests = Math.min(effect.pending.getAndSet(0), effect.voices.length);
+                for (int i = 0; i < requests; i++) {
+                    // Reuse the next clip in the pool, stopping it if it is still playing
+                    Clip clip = effect.voices[effect.nextVoice];
+                    effect.nextVoice = (effect.nextVoice + 1) % effect.voices.length;
+                    clip.stop();
+                    clip.setFramePosition(0);
+                    clip.start();
+                    started = true;
+                }
+            }
+            if (!started) { LockSupport.park(); }
         }
     }
 
@@ -85,4 +180,13 @@ public class SoundLoader {
             gainControl.setValue((float) -15.0);
         }
     }
-}
\ No newline at end of file
+
+    // Closes all preloaded effect clips (e.g. on exit)
+    public static synchronized void closeEffects() {
+        for (Effect effect : effects.values()) {
+            for (Clip clip : effect.voices) { clip.close(); }
+        }
+        effects.clear();
+        effectList = new Effect[0];
+    }
+}
@@ -0,0 +1,140 @@
+package view;
+
+import model.BrickField;
+import model.BrickGrid;
+import model.RenderSnapshot;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * Offscreen image holding the brick field.
+ * The layer is drawn completely only when a new field appears; afterwards
+ * only bricks listed in the field's change log are redrawn, and the area
+ * they cover is reported as dirty so the panel repaints just that region.
+ * The layer keeps its own durability copy and neighbour grid, rebuilt by replaying
+ * the change log up to the snapshot, so it never reads state the simulation is changing.
+ * Hits undone by a rewind arrive as log entries too and are redrawn the same way.
+ * The layer covers the logical field at the given scale; dirty areas are reported in logical coordinates.
+ */
+public class BrickLayer {
+    private final BrickPainter painter = new BrickPainter(); // Draws bricks from cached sprites
+    private final Rectangle dirty = new Rectangle(); // Area changed by the last update
+    private BufferedImage image; // Brick layer (opaque, black background)
+    private Graphics2D graphics; // Kept for incremental redraws (creating one per hit allocates)
+    private GraphicsConfiguration config; // Configuration the layer was created for
+    private double scale; // Layer pixels per logical pixel
+    private int width, height; // Logical size of the layer
+    private RenderQuality quality = RenderQuality.HIGH; // Look of the bricks
+    private boolean stale = false; // Bricks must be drawn again (render quality changed)
+    private BrickField field; // Field drawn on the layer
+    private byte[] durability = new byte[0]; // Durability of each brick as drawn on the layer
+    private BrickGrid neighbours; // All bricks of the field (finds bricks overlapping a redrawn one)
+    private int appliedChanges; // Change log entries already drawn
+
+    public BufferedImage getImage() { return image; }
+
+    // Sets the render quality of the bricks; the next update redraws the layer if it changed
+    public void setQuality(RenderQuality quality) {
+        painter.setQuality(quality);
+        stale |= quality != this.quality;
+        this.quality = quality;
+    }
+
+    // Area changed by the last update (empty if nothing changed)
+    public Rectangle getDirty() { return dirty; }
+
+    /**
+     * Brings the layer up to date with the snapshot.
+     * Returns true if the whole layer was redrawn (the whole panel needs repainting).
+     */
+    public boolean update(GraphicsConfiguration gc, RenderSnapshot frame, int width, int height, double scale) {
+        dirty.setBounds(0, 0, 0, 0);
+        BrickField bricks = frame.getBricks();
+
+        boolean resized = image == null || gc != config || scale != this.scale || width != this.width || height != this.height;
+        if (resized || stale || bricks != field) {
+            stale = false;
+            if (resized) {
+                if (image != null) {
+                    graphics.dispose();
+                    image.flush();
+                }
+                int pixelWidth = (int) Math.ceil(width * scale), pixelHeight = (int) Math.ceil(height * scale);
+                image = gc != null ? gc.createCompatibleImage(pixelWidth, pixelHeight) : new BufferedImage(pixelWidth, pixelHeight, BufferedImage.TYPE_INT_RGB);
+                graphics = image.createGraphics();
+                config = gc;
+                this.scale = scale;
+                this.width = width;
+                this.height = height;
+                painter.setScale(scale);
+                field = null; // Neighbour grid is rebuilt below
+            }
+            if (bricks != field) { setField(bricks); }
+            replayChanges(frame.getChangeCount());
+
+            Graphics2D g = graphics;
+            g.setClip(null);
+            g.setColor(Color.BLACK);
+            g.fillRect(0, 0, image.getWidth(), image.getHeight());
+            painter.paint(g, gc, bricks, durability);
+            dirty.setBounds(0, 0, width, height);
+            return true;
+        }
+
+        int changes = frame.getChangeCount();
+        if (changes == appliedChanges) { return false; }
+
+        Graphics2D g = graphics;
+        int margin = BrickPainter.getMargin();
+        for (; appliedChanges < changes; appliedChanges++) {
+            int brick = bricks.getChangedBrick(appliedChanges);
+            durability[brick] += bricks.getChangeDelta(appliedChanges);
+            int x = bricks.getX(brick) - margin, y = bricks.getY(brick) - margin;
+            int w = bricks.getWidth(brick) + 2 * margin, h = bricks.getHeight(brick) + 2 * margin;
+
+            // Clear the brick area, then redraw every remaining brick reaching into it (including this one)
+            int left = (int) Math.floor(x * scale), top = (int) Math.floor(y * scale);
+            int right = (int) Math.ceil((x + w) * scale), bottom = (int) Math.ceil((y + h) * scale);
+            g.setClip(left, top, right - left, bottom - top);
+            g.setColor(Color.BLACK);
+            g.fillRect(left, top, right - left, bottom - top);
+            int found = neighbours.query(x - margin, y - margin, w + 2 * margin, h + 2 * margin);
+            for (int i = 0; i < found; i++) {
+                int other = neighbours.getResult(i);
+                if (durability[other] > 0) { painter.paintBrick(g, gc, bricks, other, durability[other]); }
+            }
+
+            if (dirty.isEmpty()) {
+                dirty.setBounds(x, y, w, h);
+            } else {
+                dirty.add(x, y);
+                dirty.add(x + w, y + h);
+            }
+        }
+        return false;
+    }
+
+    // Starts drawing a new field: indexes all of its bricks (geometry never changes after generation)
+    private void setField(BrickField bricks) {
+        field = bricks;
+        int cellWidth = 1, cellHeight = 1;
+        for (int i = 0; i < bricks.getCount(); i++) {
+            cellWidth = Math.max(cellWidth, bricks.getWidth(i));
+            cellHeight = Math.max(cellHeight, bricks.getHeight(i));
+        }
+        neighbours = new BrickGrid(bricks, width, height, cellWidth, cellHeight);
+        for (int i = 0; i < bricks.getCount(); i++) { neighbours.add(i); }
+    }
+
+    // Resets durability to the generated values and applies the first 'changes' log entries
+    private void replayChanges(int changes) {
+        int count = field.getCount();
+        if (durability.length < count) { durability = new byte[count]; }
+        for (int i = 0; i < count; i++) { durability[i] = (byte) field.getInitialDurability(i); }
+        Arrays.fill(durability, count, durability.length, (byte) 0);
+        for (int c = 0; c < changes; c++) { durability[field.getChangedBrick(c)] += field.getChangeDelta(c); }
+        appliedChanges = changes;
+    }
+}
@@ -0,0 +1,161 @@
+package view;
+
+import model.BrickField;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Draws the bricks of a BrickField.
+ * Every (color, damage level, size) combination is rendered once into a sprite,
+ * later frames only blit the cached images.
+ * Bricks are given in logical field coordinates and drawn at the painter's scale
+ * (sprites are rendered at the target resolution, not stretched).
+ * Flat bricks (lower render qualities) are opaque sprites of the brick size without margin.
+ */
+public class BrickPainter {
+    private static final Color[] PALETTE = createPalette(); // AWT colors for the model palette
+
+    private static final BasicStroke BORDER_STROKE = new BasicStroke(3); // Brick border
+    private static final BasicStroke CRACK_STROKE = new BasicStroke(2); // Damage diagonals
+    private static final int MARGIN = 2; // Sprite border for the half of the stroke outside the brick
+    private static final int CACHE_SIZE = 512; // Max cached sprites
+
+    private final BrickSpriteCache sprites = new BrickSpriteCache(CACHE_SIZE);
+    private double scale = 1; // Target pixels per logical pixel
+    private RenderQuality quality = RenderQuality.HIGH; // Look of the sprites
+
+    // Converts the model palette into Color objects once
+    private static Color[] createPalette() {
+        Color[] palette = new Color[BrickField.getPaletteSize()];
+        for (int i = 0; i < palette.length; i++) { palette[i] = new Color(BrickField.getPaletteColor(i)); }
+        return palette;
+    }
+
+    // Sets the target pixels per logical pixel; sprites of another scale are dropped
+    public void setScale(double scale) {
+        if (scale == this.scale) { return; }
+        this.scale = scale;
+        sprites.clear();
+    }
+
+    // Sets the render quality; sprites of another quality are dropped
+    public void setQuality(RenderQuality quality) {
+        if (quality == this.quality) { return; }
+        this.quality = quality;
+        sprites.clear();
+    }
+
+    /**
+     * Paints all bricks with hits remaining by blitting their cached sprites.
+     * Durability comes from the caller (the renderer's own copy), not from the live field.
+     * Sprites are made for the given configuration (the screen's, not the offscreen target's),
+     * the same one later single-brick redraws pass, so the cache isn't dropped in between.
+     */
+    public void paint(Graphics2D g2d, GraphicsConfiguration gc, BrickField bricks, byte[] durability) {
+        for (int i = 0; i < bricks.getCount(); i++) {
+            if (durability[i] > 0) { paintBrick(g2d, gc, bricks, i, durability[i]); }
+        }
+    }
+
+    // Paints a single brick with the given durability by blitting its cached sprite
+    public void paintBrick(Graphics2D g2d, GraphicsConfiguration gc, BrickField bricks, int i, int durability) {
+        BufferedImage sprite = getSprite(gc, bricks.getColorIndex(i), durability,
+                bricks.getInitialDurability(i), bricks.getWidth(i), bricks.getHeight(i));
+        int margin = quality.isFlatBricks() ? 0 : MARGIN;
+        g2d.drawImage(sprite, (int) Math.round((bricks.getX(i) - margin) * scale), (int) Math.round((bricks.getY(i) - margin) * scale), null);
+    }
+
+    // Extra pixels a brick sprite covers around the brick bounds
+    public static int getMargin() { return MARGIN; }
+
+    // Returns the sprite for a brick look, rendering it on the first use
+    private BufferedImage getSprite(GraphicsConfiguration gc, int colorIndex, int durability, int initialDurability, int width, int height) {
+        long key = BrickSpriteCache.key(colorIndex, durability, initialDurability, width, height);
+        BufferedImage sprite = sprites.get(gc, key);
+        if (sprite == null && quality.isFlatBricks()) {
+            sprite = sprites.createImage((int) Math.ceil(width * scale), (int) Math.ceil(height * scale), Transparency.OPAQUE);
+            Graphics2D g = sprite.createGraphics();
+            g.scale(scale, scale);
+            drawFlatBrick(g, width, height, PALETTE[colorIndex], durability, initialDurability);
+            g.dispose();
+            sprites.put(key, sprite);
+        } else if (sprite == null) {
+            sprite = sprites.createImage((int) Math.ceil((width + 2 * MARGIN) * scale), (int) Math.ceil((height + 2 * MARGIN) * scale), Transparency.TRANSLUCENT);
+            Graphics2D g = sprite.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.scale(scale, scale);
+            drawBrick(g, MARGIN, MARGIN, width, height, PALETTE[colorIndex], durability, initialDurability);
+            g.dispose();
+            sprites.put(key, sprite);
+        }
+        return sprite;
+    }
+
+    /**
+     * Draws a brick with a dynamic overlay:
+     *  - when fully intact (durability == initial durability): no overlay
+     *  - when partially damaged: darker overlay appears with increasing opacity
+     *  - when nearly destroyed: two white cross-lines are drawn
+     */
+    private static void drawBrick(Graphics2D g2d, int bx, int by, int bw, int bh, Color color, int level, int initial) {
+        // Fill the brick background
+        g2d.setColor(color);
+        g2d.fillRoundRect(bx, by, bw, bh, 25, 25);
+
+        // Draw white border
+        g2d.setStroke(BORDER_STROKE);
+        g2d.setColor(Color.WHITE);
+        g2d.drawRoundRect(bx, by, bw, bh, 25, 25);
+
+        // If brick is damaged, draw black overlay
+        if (level < initial) {
+            // Calculate alpha from 0.3 (light) to 1.0 (fully overlaid)
+            float ratio = (initial - level) / (float) initial;
+            float alpha = 0.3f + 0.7f * ratio;
+
+            // Apply transparency and draw overlay
+            Composite oldComp = g2d.getComposite();
+            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+            g2d.setColor(Color.BLACK);
+            g2d.fillRoundRect(bx, by, bw, bh, 25, 25);
+            g2d.setComposite(oldComp);
+        }
+
+        // Draw white diagonal lines if partially or critically damaged
+        if (level <= 2) {
+            g2d.setColor(Color.WHITE);
+            g2d.setStroke(CRACK_STROKE);
+
+            int margin = 5;
+            int x1 = bx + margin;
+            int y1 = by + margin;
+            int x2 = bx + bw - margin;
+            int y2 = by + bh - margin;
+
+            g2d.drawLine(x1, y1, x2, y2); // First diagonal
+
+            if (level == 1) {
+                g2d.drawLine(x2, y1, x1, y2); // Second diagonal when almost destroyed
+            }
+        }
+    }
+
+    /**
+     * Draws a flat brick: the color darkened by damage (no alpha blending), a thin border
+     * and single-pixel cracks when nearly destroyed.
+     */
+    private static void drawFlatBrick(Graphics2D g2d, int bw, int bh, Color color, int level, int initial) {
+        float shade = level < initial ? 1 - (0.3f + 0.7f * (initial - level) / (float) initial) : 1; // Same darkening as the overlay
+        g2d.setColor(new Color((int) (color.getRed() * shade), (int) (color.getGreen() * shade), (int) (color.getBlue() * shade)));
+        g2d.fillRect(0, 0, bw, bh);
+        g2d.setColor(Color.WHITE);
+        g2d.drawRect(0, 0, bw - 1, bh - 1);
+
+        if (level <= 2) {
+            int margin = 5;
+            g2d.drawLine(margin, margin, bw - margin, bh - margin); // First diagonal
+            if (level == 1) { g2d.drawLine(bw - margin, margin, margin, bh - margin); } // Second diagonal when almost destroyed
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package view;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * LRU cache of pre-rendered brick images keyed by (color, damage level, size).
+ * Images are created compatible with the screen's graphics configuration, so Java2D
+ * can keep them in video memory and blit them; the whole cache is dropped when
+ * the configuration changes (e.g. window moved to another monitor).
+ * Lookups use a primitive hash table and never allocate.
+ */
+public class BrickSpriteCache {
+    private final int capacity; // Max number of cached sprites
+    private final long[] keys; // Sprite key per slot
+    private final BufferedImage[] images; // Sprite image per slot
+    private final int[] newer; // LRU list: next more recently used slot (-1 = none)
+    private final int[] older; // LRU list: next less recently used slot (-1 = none)
+    private int mostRecent = -1; // Head of the LRU list
+    private int leastRecent = -1; // Tail of the LRU list (evicted first)
+    private int size = 0; // Number of used slots
+
+    private final int[] table; // Open addressing hash table: slot + 1 (0 = empty)
+    private final int mask; // Table size - 1
+
+    private GraphicsConfiguration config; // Configuration the sprites were created for
+
+    // BrickSpriteCache constructor
+    public BrickSpriteCache(int capacity) {
+        this.capacity = capacity;
+        keys = new long[capacity];
+        images = new BufferedImage[capacity];
+        newer = new int[capacity];
+        older = new int[capacity];
+        int tableSize = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1; // Power of two, load factor <= 0.5
+        table = new int[tableSize];
+        mask = tableSize - 1;
+    }
+
+    // Packs sprite parameters into a cache key
+    public static long key(int colorIndex, int durability, int initialDurability, int width, int height) {
+        return ((long) colorIndex << 48) | ((long) (durability & 0xFF) << 40) | ((long) (initialDurability & 0xFF) << 32)
+                | ((long) (width & 0xFFFF) << 16) | (height & 0xFFFF);
+    }
+
+    /**
+     * Returns the cached sprite for the key, or null if it must be rendered.
+     * A configuration change empties the cache first.
+     */
+    public BufferedImage get(GraphicsConfiguration gc, long key) {
+        if (gc != config) {
+            clear();
+            config = gc;
+        }
+        int slot = find(key);
+        if (slot < 0) { return null; }
+        touch(slot);
+        return images[slot];
+    }
+
+    // Stores a sprite, evicting the least recently used one if the cache is full
+    public void put(long key, BufferedImage image) {
+        int slot;
+        if (size < capacity) {
+            slot = size++;
+        } else {
+            slot = leastRecent;
+            unlink(slot);
+            removeFromTable(keys[slot]);
+            images[slot].flush();
+        }
+        keys[slot] = key;
+        images[slot] = image;
+        linkFirst(slot);
+
+        int i = hash(key);
+        while (table[i] != 0) { i = (i + 1) & mask; }
+        table[i] = slot + 1;
+    }
+
+    // Creates an empty image with the given transparency, compatible with the current configuration
+    public BufferedImage createImage(int width, int height, int transparency) {
+        if (config == null) {
+            return new BufferedImage(width, height, transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+        return config.createCompatibleImage(width, height, transparency);
+    }
+
+    // Drops all sprites
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            images[i].flush();
+            images[i] = null;
+        }
+        Arrays.fill(table, 0);
+        size = 0;
+        mostRecent = leastRecent = -1;
+    }
+
+    private int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    // Returns the slot holding the key, or -1
+    private int find(long key) {
+        int i = hash(key);
+        while (table[i] != 0) {
+            int slot = table[i] - 1;
+            if (keys[slot] == key) { return slot; }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    // Removes a key from the hash table (backward shift keeps probe chains intact)
+    private void removeFromTable(long key) {
+        int i = hash(key);
+        while (keys[table[i] - 1] != key) { i = (i + 1) & mask; }
+        table[i] = 0;
+
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (table[j] == 0) { return; }
+            int home = hash(keys[table[j] - 1]);
+            // Move the entry back if its home position is not between the hole and its current position
+            boolean between = i <= j ? (home > i && home <= j) : (home > i || home <= j);
+            if (!between) {
+                table[i] = table[j];
+                table[j] = 0;
+                i = j;
+            }
+        }
+    }
+
+    // Marks a slot as most recently used
+    private void touch(int slot) {
+        if (slot == mostRecent) { return; }
+        unlink(slot);
+        linkFirst(slot);
+    }
+
+    private void unlink(int slot) {
+        if (newer[slot] >= 0) { older[newer[slot]] = older[slot]; } else { mostRecent = older[slot]; }
+        if (older[slot] >= 0) { newer[older[slot]] = newer[slot]; } else { leastRecent = newer[slot]; }
+    }
+
+    private void linkFirst(int slot) {
+        newer[slot] = -1;
+        older[slot] = mostRecent;
+        if (mostRecent >= 0) { newer[mostRecent] = slot; }
+        mostRecent = slot;
+        if (leastRecent < 0) { leastRecent = slot; }
+    }
+}
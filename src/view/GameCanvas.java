@@ -0,0 +1,144 @@
+package view;
+
+import model.GameModel;
+import utils.PerformanceMonitor;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Game screen drawn with active rendering.
+ * A dedicated render thread draws complete frames into a BufferStrategy and shows them itself,
+ * so frame pacing doesn't depend on the EDT (repaint coalescing, open dialogs).
+ * Frames are paced to the display refresh rate; with page flipping show() waits for vsync.
+ * Each frame is rendered once into the scaled offscreen target, then copied to the buffer.
+ * The quality governor sees the render time of each frame, not the wait for vsync.
+ */
+public class GameCanvas extends Canvas implements GameScreen {
+    private static final int BUFFERS = 3; // Triple buffering (falls back to whatever the strategy provides)
+    private static final long IDLE_NANOS = 50_000_000L; // Wait between checks while hidden or no game runs
+
+    private final GameRenderer renderer; // Draws the game
+    private final ScaledOutput output; // Internal resolution target, scaled to the canvas
+    private final QualityGovernor governor; // Adapts render quality to the frame budget
+    private final long frameNanos; // Time between frames
+    private volatile Thread renderThread; // Render thread (null when stopped)
+    private volatile boolean running = false; // Render loop state
+
+    // GameCanvas constructor
+    public GameCanvas(GameModel model, PerformanceMonitor monitor) {
+        this.renderer = new GameRenderer(model, monitor);
+        this.output = ScaledOutput.fromSystemProperties(model.getViewWidth(), model.getViewHeight());
+        this.governor = QualityGovernor.fromSystemProperties(model.getRefreshRate());
+        this.frameNanos = 1_000_000_000L / model.getRefreshRate();
+        setBackground(Color.BLACK); // Set black background color
+        setIgnoreRepaint(true); // Frames are drawn by the render thread only
+    }
+
+    @Override
+    public Component getComponent() { return this; }
+
+    // Frames are drawn continuously by the render thread
+    @Override
+    public void requestFrame() {}
+
+    // Starts rendering once the canvas has a native peer
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        createStrategy();
+        running = true;
+        renderThread = new Thread(this::renderLoop, "render");
+        renderThread.setDaemon(true);
+        renderThread.start();
+    }
+
+    // Stops rendering before the native peer goes away
+    @Override
+    public void removeNotify() {
+        running = false;
+        Thread thread = renderThread;
+        renderThread = null;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        super.removeNotify();
+    }
+
+    // Creates the buffer strategy: page flipping if the device supports it, otherwise blitting
+    private void createStrategy() {
+        try {
+            createBufferStrategy(BUFFERS, new BufferCapabilities(
+                    new ImageCapabilities(true), new ImageCapabilities(true), BufferCapabilities.FlipContents.UNDEFINED));
+        } catch (AWTException e) {
+            createBufferStrategy(BUFFERS); // Best available strategy
+        }
+    }
+
+    // Render thread: draws and shows a frame, then waits for the next one
+    private void renderLoop() {
+        long nextFrame = System.nanoTime();
+        while (running) {
+            if (!isShowing() || !renderer.hasGame()) {
+                LockSupport.parkNanos(IDLE_NANOS);
+                nextFrame = System.nanoTime();
+                continue;
+            }
+
+            try {
+                drawFrame();
+            } catch (IllegalStateException e) {
+                // Buffers lost with the peer (window closing) - recreate on the next frame
+                if (running && isDisplayable()) { createStrategy(); }
+            }
+
+            // Pace to the refresh rate; if a frame ran late, start counting again from now
+            nextFrame += frameNanos;
+            long wait = nextFrame - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else {
+                nextFrame = System.nanoTime();
+            }
+        }
+    }
+
+    // Draws one complete frame and shows it
+    private void drawFrame() {
+        BufferStrategy strategy = getBufferStrategy();
+        if (strategy == null) { return; }
+
+        PerformanceMonitor monitor = renderer.getMonitor();
+        long start = monitor.frameStarted();
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        RenderQuality quality = governor.getQuality();
+        output.setQuality(quality);
+        renderer.setQuality(quality);
+        output.layout(gc, getWidth(), getHeight());
+        renderer.setScale(output.getScale());
+        renderer.takeFrame(gc);
+        renderer.paint(output.getGraphics());
+        long rendered;
+        do {
+            do {
+                Graphics2D g2d = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    output.present(g2d);
+                } finally {
+                    g2d.dispose();
+                }
+            } while (strategy.contentsRestored()); // Buffer was restored while drawing - draw again
+            rendered = System.nanoTime(); // show() may wait for vsync
+            strategy.show();
+        } while (strategy.contentsLost()); // Buffer was lost - draw the frame again
+        Toolkit.getDefaultToolkit().sync(); // Flush the frame to the display now (X11 queues it otherwise)
+        monitor.frameFinished(start);
+        governor.frameRendered(rendered - start);
+    }
+}
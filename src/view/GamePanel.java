@@ -1,81 +1,97 @@
 package view;
 
-import model.Ball;
 import model.GameModel;
-import model.Paddle;
-import model.Brick;
+import utils.PerformanceMonitor;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.List;
-
-public class GamePanel extends JPanel {
-    private final GameModel model; // Model reference
-    private final int startLives; // Initial number of lives
-
-    // Heart drawing constants
-    private static final int HEART_SIZE = 30;
-    private static final int HEART_Y_OFFSET = 13;
-    private static final int HEART_SPACING = 40;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Game screen drawn through Swing (passive rendering, fallback for GameCanvas).
+ * Frames repaint only the regions reported as changed by the renderer; the regions are
+ * rendered into the scaled offscreen target and copied to the panel.
+ */
+public class GamePanel extends JPanel implements GameScreen {
+    private final GameRenderer renderer; // Draws the game
+    private final ScaledOutput output; // Internal resolution target, scaled to the panel
+    private final QualityGovernor governor; // Adapts render quality to the frame budget
+    private final Rectangle panelRegion = new Rectangle(); // Dirty region in panel coordinates
+    private final Rectangle targetRegion = new Rectangle(); // Repainted region in target pixels
+    private final AtomicBoolean framePending = new AtomicBoolean(); // A frame is queued on the EDT
+    private final Runnable frameTask = this::paintFrame;
+    private final Consumer<Rectangle> dirtyRegion = this::repaintRegion;
 
     // GamePanel constructor
-    public GamePanel(GameModel model) {
-        this.model = model;
-        this.startLives = model.getLives();
+    public GamePanel(GameModel model, PerformanceMonitor monitor) {
+        this.renderer = new GameRenderer(model, monitor);
+        this.output = ScaledOutput.fromSystemProperties(model.getViewWidth(), model.getViewHeight());
+        this.governor = QualityGovernor.fromSystemProperties(model.getRefreshRate());
         setBackground(Color.BLACK); // Set black background color
     }
 
-    // Draw a heart shape (used for representing lives)
-    private void drawHeart(Graphics2D g2d, int x) {
-        int[] triangleX = {x + HEART_SIZE / 2, x, x + HEART_SIZE};
-        int[] triangleY = {42, 12 + HEART_SIZE / 3, 12 + HEART_SIZE / 3};
-
-        g2d.fillOval(x, HEART_Y_OFFSET, HEART_SIZE / 2, HEART_SIZE / 2);                        // Left half of heart
-        g2d.fillOval(x + HEART_SIZE / 2, HEART_Y_OFFSET, HEART_SIZE / 2, HEART_SIZE / 2);    // Right half of heart
-        g2d.fillPolygon(triangleX, triangleY, 3); // Bottom triangle of heart
-    }
-
     @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
-
-        // Enable antialiasing for smother rendering
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-        // Retrieve game elements
-        Paddle paddle = model.getPaddle();
-        Ball ball = model.getBall();
-        List<Brick> bricks = List.copyOf(model.getBricks());
+    public Component getComponent() { return this; }
 
-        // Draw paddle
-        paddle.paint(g2d);
-
-        // Draw ball
-        ball.paint(g2d);
+    /**
+     * Requests a new frame from any thread.
+     * Frames are coalesced: at most one is queued on the EDT at a time.
+     */
+    @Override
+    public void requestFrame() {
+        if (framePending.compareAndSet(false, true)) { SwingUtilities.invokeLater(frameTask); }
+    }
 
-        // Draw bricks
-        for (Brick b : bricks) {
-            if (!b.isDestroyed()) { b.paint(g2d); }
+    // Takes new positions from the model and repaints only what changed (runs on the EDT)
+    private void paintFrame() {
+        framePending.set(false);
+        if (!isShowing() || !renderer.hasGame()) { return; }
+
+        PerformanceMonitor monitor = renderer.getMonitor();
+        long start = monitor.frameStarted();
+        RenderQuality quality = governor.getQuality(); // A change redraws the brick layer, so the whole panel is repainted
+        output.setQuality(quality);
+        renderer.setQuality(quality);
+        fitOutput();
+        if (!renderer.updateFrame(getGraphicsConfiguration(), dirtyRegion)) {
+            paintImmediately(0, 0, getWidth(), getHeight());
         }
+        monitor.frameFinished(start);
+        governor.frameRendered(System.nanoTime() - start);
+    }
 
-        // Drawing game start information
-        if (ball.isStuck() && model.isGameRunning()) {
-            g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font("Arial", Font.BOLD, 30));
-            g2d.drawString("HIT SPACE TO START", 230, 500);
-            g2d.drawString("USE ARROW KEYS TO MOVE", 175, 550);
-        }
+    // Repaints the panel area showing a logical region
+    private void repaintRegion(Rectangle region) {
+        output.toComponent(region, panelRegion);
+        paintImmediately(panelRegion);
+    }
 
-        // Drawing lives (hearts)
-        for (int i = 0; i < startLives; i++) {
-            g2d.setColor(i < model.getLives() ? Color.RED : Color.GRAY); // Red = remaining, gray = lost
-            drawHeart(g2d, 12 + (i * HEART_SPACING));
-        }
+    // Fits the target to the panel size
+    private void fitOutput() {
+        output.layout(getGraphicsConfiguration(), getWidth(), getHeight());
+        renderer.setScale(output.getScale());
+    }
 
-        // Drawing score
-        g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 30));
-        g2d.drawString("SCORE: " + model.getScore(), 310, 40);
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (!renderer.hasGame()) { return; } // No game started yet
+
+        // Repaint requested by Swing itself (first show, window exposed, resize) - take a fresh frame if needed
+        fitOutput();
+        renderer.prepareFrame(getGraphicsConfiguration());
+
+        // Render only the clipped area into the target, then copy it
+        Graphics2D target = output.getGraphics();
+        Rectangle clip = g.getClipBounds();
+        if (clip != null) {
+            output.toTarget(clip, targetRegion);
+            target.setClip(targetRegion);
+        } else {
+            target.setClip(null);
+        }
+        renderer.paint(target);
+        output.present((Graphics2D) g);
     }
-}
\ No newline at end of file
+}
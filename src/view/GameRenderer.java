@@ -0,0 +1,248 @@
+package view;
+
+import model.BrickField;
+import model.GameModel;
+import model.RenderSnapshot;
+import utils.PerformanceMonitor;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Draws the game screen; shared by the Swing panel (passive) and the canvas (active rendering).
+ * The renderer reads only snapshots published by the simulation thread, never the live model.
+ * The drawn frame is copied from the snapshot, so every region painted for one frame shows
+ * the same moment and the passive panel can compare it with the next one.
+ * Moving objects are blended between the snapshot's last two ticks for the time the frame is
+ * taken, so their motion follows the render clock rather than the moment the state was published.
+ * Frames are painted at the renderer's scale (target pixels per logical pixel); dirty
+ * regions are reported in logical coordinates.
+ */
+public class GameRenderer {
+    private final GameModel model; // Source of published snapshots
+    private final PerformanceMonitor monitor; // Frame statistics and overlay data
+    private final int startLives; // Initial number of lives
+    private final BrickLayer brickLayer = new BrickLayer(); // Offscreen brick field
+    private final ObjectSprites sprites = new ObjectSprites(); // Ball and paddle images
+    private final HudRenderer hud = new HudRenderer(); // Hearts, score and start hint
+    private RenderSnapshot frame; // Newest acquired snapshot
+    private double scale = 1; // Target pixels per logical pixel
+
+    // Dirty region constants
+    private static final Rectangle HUD_AREA = new Rectangle(0, 0, GameModel.VIEW_WIDTH, 50); // Hearts and score
+    private static final Rectangle HINT_AREA = new Rectangle(150, 460, 500, 100); // "HIT SPACE TO START" text
+    private static final int OBJECT_MARGIN = 2; // Extra pixels around moving objects (antialiasing)
+    private static final int MAX_BALL_REGIONS = 8; // More balls than this are reported as one region
+
+    // Drawn frame
+    private BrickField frameBricks; // Brick field the positions belong to
+    private int ballCount = 0; // Ball slots in use
+    private double[] ballX = new double[0];
+    private double[] ballY = new double[0];
+    private boolean[] ballVisible = new boolean[0];
+    private int ballDiameter;
+    private double paddleX;
+    private double paddleY;
+    private int paddleWidth;
+    private int paddleHeight;
+    private int frameScore = -1;
+    private int frameLives = -1;
+    private boolean frameHint = false;
+    private boolean frameOverlay = false; // Performance overlay shown
+
+    private final Rectangle region = new Rectangle(); // Scratch rectangle for dirty regions
+    private final Rectangle ballsRegion = new Rectangle(); // Union of ball regions
+
+    // GameRenderer constructor
+    public GameRenderer(GameModel model, PerformanceMonitor monitor) {
+        this.model = model;
+        this.monitor = monitor;
+        this.startLives = model.getLives();
+    }
+
+    // True once a game has been published and there is something to draw
+    public boolean hasGame() {
+        if (frame == null || !frame.hasGame()) { frame = model.acquireSnapshot(); }
+        return frame.hasGame();
+    }
+
+    // Sets the target pixels per logical pixel (the next frame redraws the brick layer if it changed)
+    public void setScale(double scale) { this.scale = scale; }
+
+    // Sets the look of bricks and sprites (the next frame redraws the brick layer if it changed)
+    public void setQuality(RenderQuality quality) {
+        brickLayer.setQuality(quality);
+        sprites.setAntialiasing(quality.isAntialiasing());
+    }
+
+    /**
+     * Takes the newest snapshot as the frame (active rendering draws every frame completely).
+     * Returns true if the brick layer had to be redrawn completely.
+     */
+    public boolean takeFrame(GraphicsConfiguration gc) {
+        frame = model.acquireSnapshot();
+        boolean rebuilt = updateLayer(gc);
+        sample(frame.getInterpolation(System.nanoTime()));
+        return rebuilt;
+    }
+
+    /**
+     * Copies the current snapshot again only if the drawn frame can't be used any more
+     * (new brick field or graphics configuration); used for repaints requested by Swing.
+     * Returns true if the frame was taken again.
+     */
+    public boolean prepareFrame(GraphicsConfiguration gc) {
+        if (updateLayer(gc) || frame.getBricks() != frameBricks) {
+            sample(frame.getInterpolation(System.nanoTime()));
+            return true;
+        }
+        return false;
+    }
+
+    // Brings the brick layer up to date with the frame; returns true if it was redrawn completely
+    private boolean updateLayer(GraphicsConfiguration gc) {
+        return brickLayer.update(gc, frame, model.getFieldWidth(), model.getFieldHeight(), scale);
+    }
+
+    // Makes sure the ball arrays hold at least 'count' slots
+    private void ensureBallSlots(int count) {
+        if (ballX.length < count) {
+            ballX = Arrays.copyOf(ballX, count);
+            ballY = Arrays.copyOf(ballY, count);
+            ballVisible = Arrays.copyOf(ballVisible, count);
+        }
+    }
+
+    // Copies the whole frame from the snapshot, with moving objects at the given blend
+    private void sample(double alpha) {
+        ensureBallSlots(frame.getBallCount());
+        for (int i = 0; i < frame.getBallCount(); i++) {
+            ballVisible[i] = frame.isBallVisible(i);
+            ballX[i] = frame.getBallX(i, alpha);
+            ballY[i] = frame.getBallY(i, alpha);
+        }
+        Arrays.fill(ballVisible, frame.getBallCount(), ballVisible.length, false);
+        ballCount = frame.getBallCount();
+        ballDiameter = frame.getBallDiameter();
+        frameBricks = frame.getBricks();
+        paddleX = frame.getPaddleX(alpha);
+        paddleY = frame.getPaddleY();
+        paddleWidth = frame.getPaddleWidth();
+        paddleHeight = frame.getPaddleHeight();
+        frameScore = frame.getScore();
+        frameLives = frame.getLives();
+        frameHint = frame.isStartHint();
+        frameOverlay = monitor.isOverlayVisible();
+    }
+
+    public PerformanceMonitor getMonitor() { return monitor; }
+
+    /**
+     * Takes the newest snapshot and reports only the regions that changed:
+     * old and new bounds of the paddle and balls, changed bricks, and the HUD
+     * when score, lives or the start hint changed.
+     * Returns false (nothing reported) if everything must be repainted.
+     */
+    public boolean updateFrame(GraphicsConfiguration gc, Consumer<Rectangle> dirty) {
+        frame = model.acquireSnapshot();
+        double alpha = frame.getInterpolation(System.nanoTime());
+
+        // New brick field or graphics configuration - repaint everything
+        if (updateLayer(gc) || frame.getBricks() != frameBricks) {
+            sample(alpha);
+            return false;
+        }
+        if (!brickLayer.getDirty().isEmpty()) { dirty.accept(brickLayer.getDirty()); }
+
+        // Paddle: old and new bounds
+        double newPaddleX = frame.getPaddleX(alpha);
+        if (newPaddleX != paddleX) {
+            setRegion(Math.min(paddleX, newPaddleX), paddleY, Math.abs(newPaddleX - paddleX) + paddleWidth, paddleHeight);
+            paddleX = newPaddleX;
+            dirty.accept(region);
+        }
+
+        // Balls: old and new bounds of each ball
+        int regions = 0;
+        ballsRegion.setBounds(0, 0, 0, 0);
+        boolean merge = frame.getActiveBalls() > MAX_BALL_REGIONS;
+        int slots = Math.max(ballCount, frame.getBallCount());
+        ensureBallSlots(slots);
+        for (int i = 0; i < slots; i++) {
+            boolean visible = i < frame.getBallCount() && frame.isBallVisible(i);
+            double x = visible ? frame.getBallX(i, alpha) : ballX[i];
+            double y = visible ? frame.getBallY(i, alpha) : ballY[i];
+            if (visible == ballVisible[i] && x == ballX[i] && y == ballY[i]) { continue; }
+
+            double oldX = ballVisible[i] ? ballX[i] : x, oldY = ballVisible[i] ? ballY[i] : y;
+            setRegion(Math.min(oldX, x), Math.min(oldY, y), Math.abs(x - oldX) + ballDiameter, Math.abs(y - oldY) + ballDiameter);
+            ballX[i] = x;
+            ballY[i] = y;
+            ballVisible[i] = visible;
+
+            if (merge) {
+                if (regions++ == 0) {
+                    ballsRegion.setBounds(region);
+                } else {
+                    ballsRegion.add(region.x, region.y);
+                    ballsRegion.add(region.x + region.width, region.y + region.height);
+                }
+            } else {
+                dirty.accept(region);
+            }
+        }
+        ballCount = frame.getBallCount();
+        if (merge && regions > 0) { dirty.accept(ballsRegion); }
+
+        // HUD: only when score, lives or the start hint changed
+        if (frame.getScore() != frameScore || frame.getLives() != frameLives) {
+            frameScore = frame.getScore();
+            frameLives = frame.getLives();
+            dirty.accept(HUD_AREA);
+        }
+        if (frame.isStartHint() != frameHint) {
+            frameHint = frame.isStartHint();
+            dirty.accept(HINT_AREA);
+        }
+
+        // Performance overlay: every frame while shown, once more when hidden
+        if (frameOverlay || monitor.isOverlayVisible()) {
+            frameOverlay = monitor.isOverlayVisible();
+            dirty.accept(PerformanceOverlay.getArea());
+        }
+        return true;
+    }
+
+    // Sets the scratch region to the given bounds, grown to whole pixels plus a margin
+    private void setRegion(double x, double y, double width, double height) {
+        int left = (int) Math.floor(x) - OBJECT_MARGIN, top = (int) Math.floor(y) - OBJECT_MARGIN;
+        region.setBounds(left, top, (int) Math.ceil(x + width) + OBJECT_MARGIN - left, (int) Math.ceil(y + height) + OBJECT_MARGIN - top);
+    }
+
+    // Paints the sampled frame (the brick layer also covers the background)
+    public void paint(Graphics2D g2d) {
+        // Draw bricks (prepared offscreen layer, clipped to the repainted region)
+        g2d.drawImage(brickLayer.getImage(), 0, 0, null);
+        GraphicsConfiguration gc = g2d.getDeviceConfiguration();
+
+        // Draw paddle and balls (antialiased sprites; drawing the shapes directly would allocate every frame)
+        g2d.drawImage(sprites.getPaddle(gc, scale, paddleWidth, paddleHeight), (int) (paddleX * scale), (int) (paddleY * scale), null);
+        Image ballSprite = sprites.getBall(gc, scale, ballDiameter);
+        for (int i = 0; i < ballCount; i++) {
+            if (ballVisible[i]) { g2d.drawImage(ballSprite, (int) (ballX[i] * scale), (int) (ballY[i] * scale), null); }
+        }
+
+        // Draw lives, score and start hint (cached images, text is laid out only when it changes)
+        hud.paint(g2d, gc, scale, frameScore, frameLives, startLives, frameHint);
+
+        if (frameOverlay) {
+            AffineTransform transform = g2d.getTransform();
+            g2d.scale(scale, scale); // The overlay is drawn in logical coordinates
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            PerformanceOverlay.paint(g2d, monitor);
+            g2d.setTransform(transform);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package view;
+
+import java.awt.*;
+
+/**
+ * Component showing the running game.
+ * Implemented by GameCanvas (active rendering) and GamePanel (Swing repaints).
+ */
+public interface GameScreen {
+    // Returns the component placed in the window (keyboard input, dialog parent)
+    Component getComponent();
+
+    // Signals that the model advanced and a new frame can be drawn (callable from any thread)
+    void requestFrame();
+}
@@ -1,6 +1,7 @@
 package view;
 
 import model.GameModel;
+import utils.PerformanceMonitor;
 
 import javax.swing.*;
 import java.awt.*;
@@ -12,15 +13,20 @@ public class GameView extends JFrame {
 
     private final DifficultyPanel difficultyPanel;
     private final LevelSelectPanel levelPanel;
-    private final GamePanel gamePanel;
-
-    // Creates and configures the main game window
-    public GameView(GameModel model) {
+    private final GameScreen gameScreen; // Canvas (active rendering) or panel (Swing repaints)
+    private final PerformanceMonitor monitor; // Frame statistics, shown by the performance overlay
+    private Rectangle windowedBounds; // Window bounds to restore when leaving full screen
+
+    /**
+     * Creates and configures the main game window.
+     * The window is resizable; the game keeps its logical size and is scaled to fit.
+     * -Dbrickbreaker.fullscreen=true starts in full screen (F11 toggles it).
+     */
+    public GameView(GameModel model, PerformanceMonitor monitor) {
+        this.monitor = monitor;
         setTitle("Brick Breaker"); // Set window title
-        setSize(model.getGameWindowWidth(), model.getGameWindowHeight()); // Set window size
+        mainPanel.setPreferredSize(new Dimension(model.getViewWidth(), model.getViewHeight())); // Logical view at 1:1
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE); // Close app on exit
-        setLocationRelativeTo(null); // Center the window on screen
-        setResizable(false); // Disable window resizing
 
         // Initialize menu panel
         menuPanel = new MenuPanel();
@@ -34,16 +40,30 @@ public class GameView extends JFrame {
         levelPanel = new LevelSelectPanel();
         mainPanel.add(levelPanel, "Level");
 
-        // Initialize game panel
-        gamePanel = new GamePanel(model);
-        mainPanel.add(gamePanel, "Game");
+        // Initialize game screen (-Dbrickbreaker.rendering=passive selects the Swing panel)
+        gameScreen = "passive".equals(System.getProperty("brickbreaker.rendering")) ? new GamePanel(model, monitor) : new GameCanvas(model, monitor);
+        mainPanel.add(gameScreen.getComponent(), "Game");
 
         add(mainPanel); // Add main panel to frame
-        setVisible(true); // Display the window
+        pack(); // Size the window around the view
+        setLocationRelativeTo(null); // Center the window on screen
+        if (Boolean.getBoolean("brickbreaker.fullscreen")) {
+            toggleFullScreen();
+        } else {
+            setVisible(true); // Display the window
+        }
 
         setMainPanel("Menu"); // Show the menu panel by default
     }
 
+    // Returns the refresh rate of the default screen (0 if unknown or headless)
+    public static int detectRefreshRate() {
+        if (GraphicsEnvironment.isHeadless()) { return 0; }
+        GraphicsDevice gd = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice();
+        int refreshRate = gd.getDisplayMode().getRefreshRate();
+        return refreshRate == DisplayMode.REFRESH_RATE_UNKNOWN ? 0 : refreshRate;
+    }
+
     // Returns the menu panel
     public MenuPanel getMenuPanel() { return menuPanel; }
 
@@ -53,13 +73,39 @@ public class GameView extends JFrame {
     // Returns the levels panel
     public LevelSelectPanel getLevelPanel() { return levelPanel; }
 
-    // Returns the main game panel
-    public GamePanel getGamePanel() { return gamePanel; }
+    // Returns the component showing the game
+    public Component getGameComponent() { return gameScreen.getComponent(); }
+
+    // Signals that the model advanced and a new frame can be drawn (callable from any thread)
+    public void requestFrame() { gameScreen.requestFrame(); }
+
+    // Shows or hides the performance overlay
+    public void togglePerformanceOverlay() { monitor.toggleOverlay(); }
+
+    /**
+     * Switches between the window and full screen (exclusive if the device supports it,
+     * otherwise an undecorated window covering the screen). Must run on the EDT.
+     */
+    public void toggleFullScreen() {
+        GraphicsDevice device = getGraphicsConfiguration().getDevice();
+        boolean fullScreen = device.getFullScreenWindow() == this;
+        if (!fullScreen) { windowedBounds = getBounds(); }
+        dispose(); // Decorations can only change while the window isn't displayable
+        setUndecorated(!fullScreen);
+        if (fullScreen) {
+            device.setFullScreenWindow(null);
+            setBounds(windowedBounds);
+            setVisible(true);
+        } else {
+            device.setFullScreenWindow(this); // Shows the window
+        }
+        gameScreen.getComponent().requestFocusInWindow();
+    }
 
     // Displays the specified panel
     public void setMainPanel(String panelName) {
         cardLayout.show(mainPanel, panelName);
         // If view change to game panel, request focus for keyboard input
-        if(panelName.equals("Game")) { gamePanel.requestFocusInWindow(); }
+        if(panelName.equals("Game")) { gameScreen.getComponent().requestFocusInWindow(); }
     }
 }
\ No newline at end of file
@@ -0,0 +1,194 @@
+package view;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Draws the HUD: hearts for lives, the score and the start hint.
+ * Text is never laid out per frame. The score label and digits are rendered once into a glyph
+ * atlas; when the score changes its line is composed from atlas cells into a cached image, and
+ * the hearts row is redrawn only when lives change. A frame costs three blits at most.
+ * Positions are logical; text and hearts are rendered at the target scale.
+ * Everything is rebuilt when the graphics configuration or the scale changes.
+ */
+public class HudRenderer {
+    private static final Font FONT = new Font("Arial", Font.BOLD, 30); // Score and start hint
+    private static final String SCORE_LABEL = "SCORE: ";
+    private static final String GLYPHS = "0123456789-"; // Atlas cells after the label
+    private static final int MAX_SCORE_CHARS = 11; // Digits and sign of any int
+    private static final int PAD = 2; // Transparent border around atlas cells (glyph overhang, antialiasing)
+
+    private static final int SCORE_X = 310; // Score baseline start
+    private static final int SCORE_Y = 40;
+    private static final String[] HINT_LINES = {"HIT SPACE TO START", "USE ARROW KEYS TO MOVE"};
+    private static final int[] HINT_X = {230, 175}; // Baseline start of each hint line
+    private static final int[] HINT_Y = {500, 550};
+
+    private static final int HEART_SIZE = 30; // Width and height of a heart
+    private static final int HEART_X = 12; // First heart
+    private static final int HEART_Y = 13;
+    private static final int HEART_SPACING = 40;
+
+    private GraphicsConfiguration config; // Configuration the images were created for
+    private double scale = 1; // Target pixels per logical pixel
+    private Font font = FONT; // FONT at the target scale
+    private int scoreX, scoreY, heartX, heartY; // Target pixel positions
+
+    // Glyph atlas: the label, then one cell per GLYPHS character
+    private BufferedImage atlas;
+    private final int[] cellX = new int[GLYPHS.length() + 1]; // Cell start (0 = label)
+    private final int[] advance = new int[GLYPHS.length() + 1]; // Pen advance of the cell's text
+    private int ascent; // Baseline offset from the top of a cell (without padding)
+    private int cellHeight;
+
+    private BufferedImage scoreLine; // Composed "SCORE: <n>"
+    private Graphics2D scoreGraphics; // Kept for recomposing the score line
+    private int shownScore; // Score in scoreLine
+    private boolean scoreValid = false;
+
+    private BufferedImage livesLine; // Row of hearts
+    private int shownLives = -1; // Lives in livesLine
+    private int shownStartLives = -1; // Hearts in livesLine
+
+    private BufferedImage hint; // Both start hint lines
+    private int hintX, hintY; // Top left of the hint image
+
+    // Paints the HUD for the given values
+    public void paint(Graphics2D g2d, GraphicsConfiguration gc, double scale, int score, int lives, int startLives, boolean showHint) {
+        if (gc != config || scale != this.scale || atlas == null) { rebuild(gc, scale); }
+
+        if (showHint) { g2d.drawImage(hint, hintX, hintY, null); }
+
+        if (lives != shownLives || startLives != shownStartLives) { composeLives(lives, startLives); }
+        g2d.drawImage(livesLine, heartX, heartY, null);
+
+        if (!scoreValid || score != shownScore) { composeScore(score); }
+        g2d.drawImage(scoreLine, scoreX - PAD, scoreY - ascent - PAD, null);
+    }
+
+    // Renders the atlas and the hint for a new configuration or scale
+    private void rebuild(GraphicsConfiguration gc, double scale) {
+        config = gc;
+        this.scale = scale;
+        font = FONT.deriveFont(FONT.getSize2D() * (float) scale);
+        scoreX = scaled(SCORE_X);
+        scoreY = scaled(SCORE_Y);
+        heartX = scaled(HEART_X);
+        heartY = scaled(HEART_Y);
+        if (scoreGraphics != null) { scoreGraphics.dispose(); }
+        scoreGraphics = null;
+        scoreLine = livesLine = null;
+        scoreValid = false;
+        shownLives = shownStartLives = -1;
+
+        // Measure the cells
+        BufferedImage probe = createImage(1, 1);
+        Graphics2D pg = probe.createGraphics();
+        FontMetrics metrics = pg.getFontMetrics(font);
+        pg.dispose();
+        ascent = metrics.getAscent();
+        cellHeight = ascent + metrics.getDescent() + 2 * PAD;
+        int x = 0;
+        for (int i = 0; i < cellX.length; i++) {
+            cellX[i] = x;
+            advance[i] = i == 0 ? metrics.stringWidth(SCORE_LABEL) : metrics.charWidth(GLYPHS.charAt(i - 1));
+            x += advance[i] + 2 * PAD;
+        }
+
+        // Render label and glyphs once
+        atlas = createImage(x, cellHeight);
+        Graphics2D g = createTextGraphics(atlas);
+        for (int i = 0; i < cellX.length; i++) {
+            String text = i == 0 ? SCORE_LABEL : GLYPHS.substring(i - 1, i);
+            g.drawString(text, cellX[i] + PAD, ascent + PAD);
+        }
+        g.dispose();
+
+        // Score line wide enough for the label and any int
+        int maxAdvance = 0;
+        for (int i = 1; i < advance.length; i++) { maxAdvance = Math.max(maxAdvance, advance[i]); }
+        scoreLine = createImage(advance[0] + MAX_SCORE_CHARS * maxAdvance + 2 * PAD, cellHeight);
+        scoreGraphics = scoreLine.createGraphics();
+
+        // Hint lines, laid out once
+        int left = scaled(Math.min(HINT_X[0], HINT_X[1])), right = 0;
+        for (int i = 0; i < HINT_LINES.length; i++) { right = Math.max(right, scaled(HINT_X[i]) + metrics.stringWidth(HINT_LINES[i])); }
+        hintX = left - PAD;
+        hintY = scaled(HINT_Y[0]) - ascent - PAD;
+        hint = createImage(right - left + 2 * PAD, scaled(HINT_Y[HINT_Y.length - 1]) - scaled(HINT_Y[0]) + cellHeight);
+        g = createTextGraphics(hint);
+        for (int i = 0; i < HINT_LINES.length; i++) { g.drawString(HINT_LINES[i], scaled(HINT_X[i]) - hintX, scaled(HINT_Y[i]) - hintY); }
+        g.dispose();
+    }
+
+    // Composes "SCORE: <score>" from atlas cells
+    private void composeScore(int score) {
+        shownScore = score;
+        scoreValid = true;
+
+        Graphics2D g = scoreGraphics;
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, scoreLine.getWidth(), scoreLine.getHeight());
+        g.setComposite(AlphaComposite.SrcOver);
+
+        int x = blitCell(g, 0, 0);
+        long value = score;
+        if (value < 0) {
+            x = blitCell(g, GLYPHS.length(), x); // '-'
+            value = -value;
+        }
+        long divisor = 1;
+        while (divisor * 10 <= value) { divisor *= 10; }
+        for (; divisor > 0; divisor /= 10) { x = blitCell(g, 1 + (int) (value / divisor % 10), x); }
+    }
+
+    // Copies an atlas cell to the pen position; returns the next pen position
+    private int blitCell(Graphics2D g, int cell, int x) {
+        int width = advance[cell] + 2 * PAD;
+        g.drawImage(atlas, x, 0, x + width, cellHeight, cellX[cell], 0, cellX[cell] + width, cellHeight, null);
+        return x + advance[cell];
+    }
+
+    // Redraws the row of hearts: red for remaining lives, gray for lost ones
+    private void composeLives(int lives, int startLives) {
+        shownLives = lives;
+        shownStartLives = startLives;
+        if (livesLine != null) { livesLine.flush(); }
+        livesLine = createImage((int) Math.ceil(((startLives - 1) * HEART_SPACING + HEART_SIZE) * scale), (int) Math.ceil(HEART_SIZE * scale));
+        Graphics2D g = livesLine.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.scale(scale, scale);
+        for (int i = 0; i < startLives; i++) {
+            g.setColor(i < lives ? Color.RED : Color.GRAY);
+            drawHeart(g, i * HEART_SPACING);
+        }
+        g.dispose();
+    }
+
+    // Two circles and a triangle pointing down
+    private static void drawHeart(Graphics2D g, int x) {
+        g.fillOval(x, 0, HEART_SIZE / 2, HEART_SIZE / 2); // Left half of heart
+        g.fillOval(x + HEART_SIZE / 2, 0, HEART_SIZE / 2, HEART_SIZE / 2); // Right half of heart
+        int top = HEART_SIZE / 3 - 1; // Triangle top relative to the circles
+        g.fillPolygon(new int[]{x + HEART_SIZE / 2, x, x + HEART_SIZE}, new int[]{HEART_SIZE - 1, top, top}, 3); // Bottom triangle of heart
+    }
+
+    private Graphics2D createTextGraphics(BufferedImage image) {
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setFont(font);
+        g.setColor(Color.WHITE);
+        return g;
+    }
+
+    // Logical coordinate in target pixels
+    private int scaled(int logical) { return (int) Math.round(logical * scale); }
+
+    private BufferedImage createImage(int width, int height) {
+        width = Math.max(width, 1);
+        height = Math.max(height, 1);
+        if (config == null) { return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE); }
+        return config.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+}
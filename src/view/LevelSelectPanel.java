@@ -5,13 +5,17 @@ import utils.SoundLoader;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.List;
 
 
 public class LevelSelectPanel extends JPanel {
-    private final JButton level1Button; // Select game level 1
-    private final JButton level2Button; // Select game level 2
-    private final JButton level3Button; // Select game level 3
+    private static final int BUTTONS_PER_ROW = 10; // Level buttons wrap after this many columns
+
+    private final JPanel buttonPanel; // One button per level of the selected difficulty
+    private final List<ActionListener> levelListeners = new ArrayList<>(); // Added to every level button
     private final JButton backButton; // Returns to previous panel
+    private int levelCount = 0; // Number of level buttons shown
 
     public LevelSelectPanel() {
         setLayout(new BorderLayout());
@@ -23,21 +27,15 @@ public class LevelSelectPanel extends JPanel {
         JLabel levelLabel = new JLabel("Level", SwingConstants.CENTER);
         levelLabel.setFont(titleFont);
 
-        // Initialize buttons
-        level1Button = new JButton("1");
-        level1Button.setActionCommand("1");
-        level2Button = new JButton("2");
-        level2Button.setActionCommand("2");
-        level3Button = new JButton("3");
-        level3Button.setActionCommand("3");
-
         backButton = new JButton("Back");
 
-        // Panel for level buttons
-        JPanel buttonPanel = new JPanel();
-        buttonPanel.add(level1Button);
-        buttonPanel.add(level2Button);
-        buttonPanel.add(level3Button);
+        // Panel for level buttons (filled by setLevelCount, scrolls for large level packs)
+        buttonPanel = new JPanel(new GridLayout(0, BUTTONS_PER_ROW, 5, 5));
+        JPanel buttonWrapper = new JPanel(); // Keeps the buttons at their preferred size
+        buttonWrapper.add(buttonPanel);
+        JScrollPane buttonScroll = new JScrollPane(buttonWrapper);
+        buttonScroll.setBorder(null);
+        setLevelCount(3);
 
         // Panel for back button
         JPanel backPanel = new JPanel();
@@ -45,7 +43,7 @@ public class LevelSelectPanel extends JPanel {
 
         // Add components to panel
         add(levelLabel, BorderLayout.NORTH);    // Title at the top
-        add(buttonPanel, BorderLayout.CENTER);  // Level buttons in the center
+        add(buttonScroll, BorderLayout.CENTER); // Level buttons in the center
         add(backPanel, BorderLayout.SOUTH);     // Back button at the bottom
     }
 
@@ -55,9 +53,25 @@ public class LevelSelectPanel extends JPanel {
             SoundLoader.playWAV("/sounds/crash.wav");
             listener.actionPerformed(e);
         };
-        level1Button.addActionListener(wrapper);
-        level2Button.addActionListener(wrapper);
-        level3Button.addActionListener(wrapper);
+        levelListeners.add(wrapper);
+        for (Component button : buttonPanel.getComponents()) { ((JButton) button).addActionListener(wrapper); }
+    }
+
+    // Shows one button per level (levels are numbered 1..count in the level pack index)
+    public void setLevelCount(int count) {
+        if (count == levelCount) { return; }
+        levelCount = count;
+
+        buttonPanel.removeAll();
+        for (int level = 1; level <= count; level++) {
+            JButton levelButton = new JButton(String.valueOf(level));
+            levelButton.setActionCommand(String.valueOf(level));
+            for (ActionListener listener : levelListeners) { levelButton.addActionListener(listener); }
+            buttonPanel.add(levelButton);
+        }
+        ((GridLayout) buttonPanel.getLayout()).setColumns(Math.min(Math.max(count, 1), BUTTONS_PER_ROW));
+        revalidate();
+        repaint();
     }
 
     // Add a listener for the BACK button
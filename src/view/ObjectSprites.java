@@ -0,0 +1,82 @@
+package view;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Pre-rendered images of the moving objects (ball and paddle).
+ * Java2D allocates a shape for every antialiased fillOval or fillRoundRect call, while
+ * blitting an image doesn't, so painting a frame from these sprites allocates nothing.
+ * Sprites are rendered at the target scale, again only when their size, the scale,
+ * the render quality or the graphics configuration changes. Without antialiasing they
+ * are bitmask images, which blit faster than translucent ones.
+ */
+public class ObjectSprites {
+    private static final int PADDLE_ARC = 15; // Corner rounding of the paddle
+
+    private GraphicsConfiguration config; // Configuration the sprites were created for
+    private double scale = 1; // Sprite pixels per logical pixel
+    private boolean antialiasing = true; // Antialiased, translucent sprites
+    private BufferedImage ball;
+    private int ballDiameter = -1;
+    private BufferedImage paddle;
+    private int paddleWidth = -1;
+    private int paddleHeight = -1;
+
+    // Sets whether sprites are antialiased; sprites are rendered again if it changed
+    public void setAntialiasing(boolean antialiasing) {
+        if (antialiasing == this.antialiasing) { return; }
+        this.antialiasing = antialiasing;
+        ball = paddle = null;
+    }
+
+    // Drops all sprites if the configuration or the scale changed
+    private void check(GraphicsConfiguration gc, double scale) {
+        if (gc == config && scale == this.scale) { return; }
+        config = gc;
+        this.scale = scale;
+        ball = paddle = null;
+    }
+
+    public BufferedImage getBall(GraphicsConfiguration gc, double scale, int diameter) {
+        check(gc, scale);
+        if (ball == null || diameter != ballDiameter) {
+            ballDiameter = diameter;
+            ball = createImage(diameter, diameter);
+            Graphics2D g = createGraphics(ball, Color.WHITE);
+            g.fillOval(0, 0, diameter, diameter);
+            g.dispose();
+        }
+        return ball;
+    }
+
+    public BufferedImage getPaddle(GraphicsConfiguration gc, double scale, int width, int height) {
+        check(gc, scale);
+        if (paddle == null || width != paddleWidth || height != paddleHeight) {
+            paddleWidth = width;
+            paddleHeight = height;
+            paddle = createImage(width, height);
+            Graphics2D g = createGraphics(paddle, Color.WHITE);
+            g.fillRoundRect(0, 0, width, height, PADDLE_ARC, PADDLE_ARC);
+            g.dispose();
+        }
+        return paddle;
+    }
+
+    // Creates an image for a sprite of the given logical size
+    private BufferedImage createImage(int logicalWidth, int logicalHeight) {
+        int width = Math.max((int) Math.ceil(logicalWidth * scale), 1);
+        int height = Math.max((int) Math.ceil(logicalHeight * scale), 1);
+        if (config == null) { return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE); }
+        return config.createCompatibleImage(width, height, antialiasing ? Transparency.TRANSLUCENT : Transparency.BITMASK);
+    }
+
+    // Graphics drawing in logical coordinates
+    private Graphics2D createGraphics(BufferedImage image, Color color) {
+        Graphics2D g = image.createGraphics();
+        if (antialiasing) { g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON); }
+        g.scale(scale, scale);
+        g.setColor(color);
+        return g;
+    }
+}
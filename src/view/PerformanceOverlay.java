@@ -0,0 +1,55 @@
+package view;
+
+import utils.PerformanceMonitor;
+
+import java.awt.*;
+
+/**
+ * Draws the performance overlay (toggled with F3): rates and percentiles prepared
+ * by the PerformanceMonitor, and a graph of recent frame times.
+ */
+public class PerformanceOverlay {
+    private static final Rectangle AREA = new Rectangle(490, 55, 300, 190); // Overlay bounds on screen
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private static final Color BACKGROUND = new Color(0, 0, 0, 190);
+    private static final Color GRAPH_COLOR = new Color(80, 220, 120);
+    private static final Color BUDGET_COLOR = new Color(255, 255, 255, 90);
+    private static final int LINE_HEIGHT = 15;
+    private static final int GRAPH_HEIGHT = 70; // Graph height in pixels
+    private static final double GRAPH_SCALE_NANOS = 20_000_000; // Frame time shown at full graph height
+    private static final double[] BUDGET_LINES = {1e9 / 60, 1e9 / 144}; // Frame budgets marked on the graph
+
+    private PerformanceOverlay() {}
+
+    // Screen area covered by the overlay
+    public static Rectangle getArea() { return AREA; }
+
+    // Paints the overlay
+    public static void paint(Graphics2D g2d, PerformanceMonitor monitor) {
+        g2d.setColor(BACKGROUND);
+        g2d.fillRect(AREA.x, AREA.y, AREA.width, AREA.height);
+
+        // Text
+        g2d.setFont(FONT);
+        g2d.setColor(Color.WHITE);
+        int y = AREA.y + LINE_HEIGHT;
+        for (String line : monitor.getOverlayLines()) {
+            g2d.drawString(line, AREA.x + 5, y);
+            y += LINE_HEIGHT;
+        }
+
+        // Frame-time graph (newest frame on the right)
+        int bottom = AREA.y + AREA.height - 5;
+        int right = AREA.x + 5 + monitor.getGraphSize() - 1;
+        g2d.setColor(BUDGET_COLOR);
+        for (double budget : BUDGET_LINES) {
+            int lineY = bottom - (int) (budget / GRAPH_SCALE_NANOS * GRAPH_HEIGHT);
+            g2d.drawLine(AREA.x + 5, lineY, right, lineY);
+        }
+        g2d.setColor(GRAPH_COLOR);
+        for (int age = 0; age < monitor.getGraphSize(); age++) {
+            int height = (int) Math.min(GRAPH_HEIGHT, monitor.getGraphValue(age) / GRAPH_SCALE_NANOS * GRAPH_HEIGHT);
+            if (height > 0) { g2d.drawLine(right - age, bottom, right - age, bottom - height); }
+        }
+    }
+}
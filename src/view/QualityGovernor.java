@@ -0,0 +1,102 @@
+package view;
+
+import java.util.Locale;
+
+/**
+ * Adapts the rendering quality to what the machine sustains.
+ * The screen reports how long each frame took to render (without waiting for vsync).
+ * Frames are judged against the refresh budget in windows of about one second:
+ *  - quality steps down as soon as a tenth of the window's frames used most of the budget
+ *  - it steps up only after several windows in a row used at most half of it
+ * The gap between the two thresholds and the longer wait for stepping up keep the level
+ * from flapping; when a step up is followed by a step down soon after, the wait doubles.
+ * Frames right after a change are ignored (sprites are rendered again for the new level).
+ * -Dbrickbreaker.quality=auto|high|medium|low|lowest (a named level turns the governor off)
+ */
+public class QualityGovernor {
+    private static final double MISS_LOAD = 0.85; // Frame work above this part of the budget counts as a miss
+    private static final double SPARE_LOAD = 0.5; // Frame work below this part of the budget leaves headroom
+    private static final double MISS_RATIO = 0.1; // Misses in a window that step quality down
+    private static final double SPARE_RATIO = 0.95; // Frames with headroom in a window that count it as good
+    private static final int SETTLE_FRAMES = 10; // Frames ignored after a change
+    private static final int MIN_UP_WINDOWS = 3; // Good windows in a row before stepping up
+    private static final int MAX_UP_WINDOWS = 48;
+    private static final int BOUNCE_WINDOWS = 5; // A step down this soon after a step up doubles the wait
+
+    private final boolean adaptive; // False = fixed quality
+    private final long missNanos, spareNanos; // Frame work thresholds
+    private final int window; // Frames per window (about one second)
+    private RenderQuality quality;
+
+    private int frames = 0; // Frames judged in the current window
+    private int misses = 0; // Frames in the window above MISS_LOAD
+    private int spare = 0; // Frames in the window below SPARE_LOAD
+    private int settle = SETTLE_FRAMES; // Frames still ignored
+    private int goodWindows = 0; // Good windows in a row
+    private int upWindows = MIN_UP_WINDOWS; // Good windows needed to step up
+    private int windowsSinceUp = Integer.MAX_VALUE; // Windows since the last step up
+
+    // QualityGovernor constructor (fixed = null adapts the quality, starting at HIGH)
+    public QualityGovernor(int refreshRate, RenderQuality fixed) {
+        long budgetNanos = 1_000_000_000L / refreshRate;
+        this.adaptive = fixed == null;
+        this.quality = fixed != null ? fixed : RenderQuality.HIGH;
+        this.missNanos = (long) (budgetNanos * MISS_LOAD);
+        this.spareNanos = (long) (budgetNanos * SPARE_LOAD);
+        this.window = refreshRate;
+    }
+
+    // Creates a governor configured by the brickbreaker.quality property
+    public static QualityGovernor fromSystemProperties(int refreshRate) {
+        String name = System.getProperty("brickbreaker.quality", "auto");
+        return new QualityGovernor(refreshRate, "auto".equals(name) ? null : RenderQuality.valueOf(name.toUpperCase(Locale.ROOT)));
+    }
+
+    // Quality the next frame should be rendered with
+    public RenderQuality getQuality() { return quality; }
+
+    // Records the render time of a frame and adjusts the quality (call on the thread that draws frames)
+    public void frameRendered(long nanos) {
+        if (!adaptive) { return; }
+        if (settle > 0) {
+            settle--;
+            return;
+        }
+
+        frames++;
+        if (nanos > missNanos) {
+            misses++;
+        } else if (nanos < spareNanos) {
+            spare++;
+        }
+
+        if (misses >= window * MISS_RATIO) {
+            // Budget missed too often - step down now rather than at the end of the window
+            if (windowsSinceUp <= BOUNCE_WINDOWS) { upWindows = Math.min(upWindows * 2, MAX_UP_WINDOWS); }
+            goodWindows = 0;
+            change(quality.lower());
+            return;
+        }
+        if (frames < window) { return; }
+
+        // Window complete
+        goodWindows = misses == 0 && spare >= window * SPARE_RATIO ? goodWindows + 1 : 0;
+        if (windowsSinceUp != Integer.MAX_VALUE) { windowsSinceUp++; }
+        if (goodWindows >= upWindows && quality != RenderQuality.HIGH) {
+            goodWindows = 0;
+            windowsSinceUp = 0;
+            change(quality.higher());
+        } else {
+            startWindow();
+        }
+    }
+
+    // Switches to a level and starts judging it after the settle frames
+    private void change(RenderQuality newQuality) {
+        quality = newQuality;
+        settle = SETTLE_FRAMES;
+        startWindow();
+    }
+
+    private void startWindow() { frames = misses = spare = 0; }
+}
@@ -0,0 +1,41 @@
+package view;
+
+/**
+ * Rendering quality levels, from best looking to cheapest.
+ * Lower levels drop antialiasing (sprites become bitmask or opaque images, which blit faster),
+ * draw flat bricks with a plain damage shade, scale the frame with nearest neighbour
+ * and finally render at a reduced internal resolution.
+ */
+public enum RenderQuality {
+    HIGH(true, false, true, 1.0),
+    MEDIUM(false, true, true, 1.0),
+    LOW(false, true, false, 0.75),
+    LOWEST(false, true, false, 0.5);
+
+    private final boolean antialiasing; // Antialiased, translucent sprites
+    private final boolean flatBricks; // Opaque rectangles instead of rounded, stroked and alpha-blended bricks
+    private final boolean smoothScaling; // Configured interpolation when scaling to the window (nearest otherwise)
+    private final double resolution; // Part of the configured internal resolution rendered
+
+    // RenderQuality constructor
+    RenderQuality(boolean antialiasing, boolean flatBricks, boolean smoothScaling, double resolution) {
+        this.antialiasing = antialiasing;
+        this.flatBricks = flatBricks;
+        this.smoothScaling = smoothScaling;
+        this.resolution = resolution;
+    }
+
+    public boolean isAntialiasing() { return antialiasing; }
+
+    public boolean isFlatBricks() { return flatBricks; }
+
+    public boolean isSmoothScaling() { return smoothScaling; }
+
+    public double getResolution() { return resolution; }
+
+    // Next cheaper level (the cheapest stays)
+    public RenderQuality lower() { return this == LOWEST ? LOWEST : values()[ordinal() + 1]; }
+
+    // Next better level (the best stays)
+    public RenderQuality higher() { return this == HIGH ? HIGH : values()[ordinal() - 1]; }
+}
@@ -0,0 +1,130 @@
+package view;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Offscreen target the game is rendered into, scaled to whatever size the window has.
+ * The renderer draws the logical view at the internal resolution; the image is then
+ * letterboxed into the component (aspect ratio kept, black bars) with the chosen interpolation.
+ * The internal resolution is either a fixed factor of the logical view, trading sharpness
+ * for render cost, or follows the output pixels (including the HiDPI scale) so the blit is 1:1.
+ * Lower render qualities reduce the internal resolution further and scale with nearest neighbour.
+ * Options: -Dbrickbreaker.renderScale=auto|<factor>  -Dbrickbreaker.interpolation=nearest|bilinear|bicubic
+ */
+public class ScaledOutput {
+    private final int viewWidth, viewHeight; // Logical size of the view
+    private final double renderScale; // Internal pixels per logical pixel (0 = follow the output)
+    private final Object interpolation; // Interpolation used when scaling to the window
+    private RenderQuality quality = RenderQuality.HIGH; // Resolution and interpolation adjustments
+
+    private GraphicsConfiguration config; // Configuration the target was created for
+    private int componentWidth = -1, componentHeight = -1; // Component size the layout was computed for
+    private double outputScale; // Device pixels per component pixel (HiDPI scale)
+    private double scale; // Internal pixels per logical pixel
+    private BufferedImage image; // Internal target
+    private Graphics2D graphics; // Kept for every frame (creating one per frame allocates)
+    private int destX, destY, destWidth, destHeight; // Letterboxed view inside the component
+
+    // ScaledOutput constructor (renderScale 0 = internal resolution follows the output)
+    public ScaledOutput(int viewWidth, int viewHeight, double renderScale, Object interpolation) {
+        if (renderScale < 0) { throw new IllegalArgumentException("Render scale must not be negative: " + renderScale); }
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+        this.renderScale = renderScale;
+        this.interpolation = interpolation;
+    }
+
+    // Creates an output configured by the brickbreaker.renderScale and brickbreaker.interpolation properties
+    public static ScaledOutput fromSystemProperties(int viewWidth, int viewHeight) {
+        String scale = System.getProperty("brickbreaker.renderScale", "auto");
+        double renderScale = "auto".equals(scale) ? 0 : Double.parseDouble(scale);
+        return new ScaledOutput(viewWidth, viewHeight, renderScale, parseInterpolation(System.getProperty("brickbreaker.interpolation", "bilinear")));
+    }
+
+    // Rendering hint value for an interpolation name
+    public static Object parseInterpolation(String name) {
+        return switch (name) {
+            case "nearest" -> RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR;
+            case "bilinear" -> RenderingHints.VALUE_INTERPOLATION_BILINEAR;
+            case "bicubic" -> RenderingHints.VALUE_INTERPOLATION_BICUBIC;
+            default -> throw new IllegalArgumentException("Unknown interpolation: " + name);
+        };
+    }
+
+    // Sets the render quality; the next layout applies its resolution
+    public void setQuality(RenderQuality quality) {
+        if (quality == this.quality) { return; }
+        this.quality = quality;
+        componentWidth = -1; // Lay out again
+    }
+
+    /**
+     * Fits the view into a component of the given size and makes sure the target matches.
+     * Cheap when nothing changed, so it can be called before every frame.
+     */
+    public void layout(GraphicsConfiguration gc, int width, int height) {
+        if (gc == config && width == componentWidth && height == componentHeight && image != null) { return; }
+        componentWidth = width;
+        componentHeight = height;
+        if (gc != config || image == null) { outputScale = gc != null ? gc.getDefaultTransform().getScaleX() : 1; }
+
+        // Largest letterboxed view keeping the aspect ratio
+        double fit = Math.max(Math.min(width / (double) viewWidth, height / (double) viewHeight), 0);
+        destWidth = Math.max((int) Math.round(viewWidth * fit), 1);
+        destHeight = Math.max((int) Math.round(viewHeight * fit), 1);
+        destX = (width - destWidth) / 2;
+        destY = (height - destHeight) / 2;
+
+        double newScale = (renderScale > 0 ? renderScale : Math.max(destWidth * outputScale / viewWidth, 1.0 / viewWidth)) * quality.getResolution();
+        int pixelWidth = (int) Math.ceil(viewWidth * newScale), pixelHeight = (int) Math.ceil(viewHeight * newScale);
+        if (image == null || gc != config || image.getWidth() != pixelWidth || image.getHeight() != pixelHeight) {
+            if (image != null) {
+                graphics.dispose();
+                image.flush();
+            }
+            image = gc != null ? gc.createCompatibleImage(pixelWidth, pixelHeight) : new BufferedImage(pixelWidth, pixelHeight, BufferedImage.TYPE_INT_RGB);
+            graphics = image.createGraphics();
+            config = gc;
+        }
+        scale = newScale;
+    }
+
+    // Internal pixels per logical pixel (the renderer's scale)
+    public double getScale() { return scale; }
+
+    // Graphics of the internal target, in internal pixels
+    public Graphics2D getGraphics() { return graphics; }
+
+    // Copies the target to the component: black bars around the letterboxed view, then the scaled image
+    public void present(Graphics2D g2d) {
+        g2d.setColor(Color.BLACK);
+        if (destX > 0) {
+            g2d.fillRect(0, 0, destX, componentHeight);
+            g2d.fillRect(destX + destWidth, 0, componentWidth - destX - destWidth, componentHeight);
+        }
+        if (destY > 0) {
+            g2d.fillRect(0, 0, componentWidth, destY);
+            g2d.fillRect(0, destY + destHeight, componentWidth, componentHeight - destY - destHeight);
+        }
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                quality.isSmoothScaling() ? interpolation : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g2d.drawImage(image, destX, destY, destWidth, destHeight, null);
+    }
+
+    // Component area showing a logical region (grown by a pixel for interpolation)
+    public void toComponent(Rectangle logical, Rectangle out) {
+        double fit = destWidth / (double) viewWidth;
+        int left = (int) Math.floor(logical.x * fit) + destX - 1, top = (int) Math.floor(logical.y * fit) + destY - 1;
+        out.setBounds(left, top, (int) Math.ceil((logical.x + logical.width) * fit) + destX + 1 - left,
+                (int) Math.ceil((logical.y + logical.height) * fit) + destY + 1 - top);
+    }
+
+    // Target area needed to repaint a component region (grown by a pixel for interpolation)
+    public void toTarget(Rectangle component, Rectangle out) {
+        double factor = scale * viewWidth / destWidth;
+        int left = (int) Math.floor((component.x - destX) * factor) - 1, top = (int) Math.floor((component.y - destY) * factor) - 1;
+        out.setBounds(left, top, (int) Math.ceil((component.x + component.width - destX) * factor) + 1 - left,
+                (int) Math.ceil((component.y + component.height - destY) * factor) + 1 - top);
+    }
+}